@@ -0,0 +1,109 @@
+#!/usr/bin/env python3
+"""Compare two JMH JSON result files and flag regressions.
+
+Usage: compare.py BASELINE.json CURRENT.json [--threshold PERCENT] [--ignore-param NAME]...
+
+For each benchmark in both files, prints the primary score and the normalized
+allocation (gc.alloc.rate.norm, from -prof gc) of each run and the change
+between them. A benchmark regresses when it is slower, or allocates more, by
+more than the threshold (default 10%). Exits with status 1 if any benchmark
+regresses, so that the script can gate a build.
+
+Benchmarks are matched by name and parameters. Use --ignore-param for a
+parameter that differs between the two runs by design, such as the library
+under test.
+"""
+
+import argparse
+import json
+import sys
+
+ALLOCATION = "gc.alloc.rate.norm"
+
+
+def load(path, ignored_params=()):
+    with open(path, encoding="utf-8") as f:
+        results = {}
+        for result in json.load(f):
+            params = {k: v for k, v in (result.get("params") or {}).items() if k not in ignored_params}
+            name = result["benchmark"]
+            if params:
+                name += "(" + ",".join("%s=%s" % p for p in sorted(params.items())) + ")"
+            results[(name, result["mode"])] = result
+        return results
+
+
+def allocation(result):
+    for name, metric in (result.get("secondaryMetrics") or {}).items():
+        # Older JMH versions prefix profiler metrics with a middle dot
+        if name.lstrip("\u00b7") == ALLOCATION:
+            return metric["score"]
+    return None
+
+
+def change(before, after):
+    if before == 0:
+        return 0.0 if after == 0 else float("inf")
+    return (after - before) / before * 100.0
+
+
+def main():
+    parser = argparse.ArgumentParser(description="Compare two JMH JSON result files.")
+    parser.add_argument("baseline")
+    parser.add_argument("current")
+    parser.add_argument("--threshold", type=float, default=10.0,
+                        help="percentage change that counts as a regression (default 10)")
+    parser.add_argument("--ignore-param", action="append", default=[], metavar="NAME",
+                        help="benchmark parameter to leave out when matching the two runs")
+    args = parser.parse_args()
+
+    baseline = load(args.baseline, args.ignore_param)
+    current = load(args.current, args.ignore_param)
+
+    regressions = []
+    row = "%-70s %5s %14s %14s %8s %12s %12s %8s"
+    print(row % ("Benchmark", "Mode", "Baseline", "Current", "Change",
+                 "Alloc B/op", "Alloc B/op", "Change"))
+    for key in sorted(baseline.keys() & current.keys()):
+        name, mode = key
+        before, after = baseline[key], current[key]
+        unit = after["primaryMetric"]["scoreUnit"]
+        score_before = before["primaryMetric"]["score"]
+        score_after = after["primaryMetric"]["score"]
+        score_change = change(score_before, score_after)
+        # Throughput is better when higher; every other mode measures time
+        slower = -score_change if mode == "thrpt" else score_change
+
+        alloc_before, alloc_after = allocation(before), allocation(after)
+        if alloc_before is None or alloc_after is None:
+            alloc_change = None
+            alloc = ("-", "-", "-")
+        else:
+            alloc_change = change(alloc_before, alloc_after)
+            alloc = ("%.1f" % alloc_before, "%.1f" % alloc_after, "%+.1f%%" % alloc_change)
+
+        print(row % ((name, mode, "%.3f" % score_before, "%.3f %s" % (score_after, unit),
+                      "%+.1f%%" % score_change) + alloc))
+
+        if slower > args.threshold:
+            regressions.append("%s: %.1f%% slower" % (name, slower))
+        # Ignore allocation noise of a few bytes per operation
+        if alloc_change is not None and alloc_change > args.threshold and alloc_after - alloc_before >= 8:
+            regressions.append("%s: allocates %.1f%% more" % (name, alloc_change))
+
+    for key in sorted(baseline.keys() - current.keys()):
+        print("Missing from current: %s (%s)" % key)
+    for key in sorted(current.keys() - baseline.keys()):
+        print("New in current: %s (%s)" % key)
+
+    if regressions:
+        print()
+        print("Regressions beyond %.1f%%:" % args.threshold)
+        for regression in regressions:
+            print("  " + regression)
+        return 1
+    return 0
+
+
+if __name__ == "__main__":
+    sys.exit(main())
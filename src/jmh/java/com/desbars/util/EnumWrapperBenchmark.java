@@ -0,0 +1,69 @@
+package com.desbars.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures `EnumWrapper.valueOf` for exact hits, hits that ignore case and
+ * underscores, and misses.
+ * 
+ * @author Darren
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnumWrapperBenchmark {
+
+	public static enum Color {
+		RED, ORANGE, YELLOW, GREEN, BLUE, INDIGO, VIOLET, LIGHT_GRAY, DARK_GRAY
+	}
+
+	private EnumWrapper<Color> wrapper;
+
+	/**
+	 * Not constants, so that the JIT cannot fold the lookups.
+	 */
+	private String exactName;
+	private String foldedName;
+	private String missingName;
+
+	@Setup
+	public void setup() {
+		wrapper = EnumWrapper.forEnum(Color.class);
+		exactName = "LIGHT_GRAY";
+		foldedName = "lightGray";
+		missingName = "transparent";
+	}
+
+	@Benchmark
+	public Color valueOfHit() {
+		return wrapper.valueOf(exactName);
+	}
+
+	@Benchmark
+	public Color valueOfFoldedHit() {
+		return wrapper.valueOf(foldedName);
+	}
+
+	@Benchmark
+	public Object valueOfMiss() {
+		try {
+			return wrapper.valueOf(missingName);
+		} catch (IllegalArgumentException e) {
+			return e;
+		}
+	}
+}
@@ -0,0 +1,84 @@
+package com.desbars.util;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares iterating enum constants through `EnumWrapper` against the previous
+ * implementation, which invoked the reflected `values` method on every call.
+ * 
+ * @author Darren
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnumWrapperValuesBenchmark {
+
+	public static enum Color {
+		RED, ORANGE, YELLOW, GREEN, BLUE, INDIGO, VIOLET
+	}
+
+	private EnumWrapper<Color> wrapper;
+
+	private Method reflectedValues;
+
+	@Setup
+	public void setup() throws NoSuchMethodException {
+		wrapper = EnumWrapper.forEnum(Color.class);
+		reflectedValues = Color.class.getMethod("values");
+	}
+
+	/**
+	 * The path `EnumWrapper.values` used to take.
+	 */
+	@Benchmark
+	public int reflectiveValues() {
+		int sum = 0;
+		Color[] values = ReflectionUtil.tryMethod(reflectedValues, null);
+		for (Color color : values) {
+			sum += color.ordinal();
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public int cachedValues() {
+		int sum = 0;
+		for (Color color : wrapper.values()) {
+			sum += color.ordinal();
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public int valueList() {
+		int sum = 0;
+		for (Color color : wrapper.valueList()) {
+			sum += color.ordinal();
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public int forOrdinal() {
+		int sum = 0;
+		for (int i = 0, n = wrapper.size(); i < n; ++i) {
+			sum += wrapper.forOrdinal(i).ordinal();
+		}
+		return sum;
+	}
+}
@@ -0,0 +1,98 @@
+package com.desbars.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures `ReflectionUtil.tryMethod` and `getFieldSummary` against their
+ * cached counterparts, `invoker` and `summaryTemplate`, and a constant
+ * `handle` against a direct call.
+ * 
+ * @author Darren
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReflectionUtilBenchmark {
+
+	public static class Target {
+		String name = "target";
+		int count = 42;
+
+		public String greet(String greeting, String who) {
+			return greeting;
+		}
+	}
+
+	private static final MethodHandle GREET;
+	static {
+		try {
+			GREET = ReflectionUtil.handle(Target.class.getMethod("greet", String.class, String.class),
+					MethodType.methodType(String.class, Target.class, String.class, String.class));
+		} catch (NoSuchMethodException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	private Target target;
+
+	private Method method;
+
+	private MethodInvoker<String> invoker;
+
+	private FieldSummary template;
+
+	@Setup
+	public void setup() throws NoSuchMethodException {
+		target = new Target();
+		method = Target.class.getMethod("greet", String.class, String.class);
+		invoker = ReflectionUtil.invoker(method, String.class);
+		template = ReflectionUtil.summaryTemplate(Target.class, "name", "count", "missing");
+	}
+
+	@Benchmark
+	public String tryMethod() {
+		return ReflectionUtil.tryMethod(method, target, "Hello", "World");
+	}
+
+	@Benchmark
+	public String invoker() {
+		return invoker.invoke(target, "Hello", "World");
+	}
+
+	@Benchmark
+	public String handle() throws Throwable {
+		return (String) GREET.invokeExact(target, "Hello", "World");
+	}
+
+	@Benchmark
+	public String direct() {
+		return target.greet("Hello", "World");
+	}
+
+	@Benchmark
+	public String getFieldSummary() {
+		return ReflectionUtil.getFieldSummary(target, "name", "count", "missing");
+	}
+
+	@Benchmark
+	public String summaryTemplate() {
+		return template.summarize(target);
+	}
+}
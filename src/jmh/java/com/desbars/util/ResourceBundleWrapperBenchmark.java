@@ -0,0 +1,101 @@
+package com.desbars.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures reading properties through `ResourceBundleWrapper`.
+ * 
+ * Warm benchmarks read an already loaded bundle; `Cold` benchmarks reset the
+ * bundle before every invocation, so that each one loads it again.
+ * 
+ * @author Darren
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResourceBundleWrapperBenchmark {
+
+	public static enum Color {
+		RED
+	}
+
+	@State(Scope.Benchmark)
+	public static class Warm {
+		ResourceBundleWrapper wrapper;
+		IIntValue timeout;
+		String greetingKey;
+		String timeoutKey;
+
+		@Setup
+		public void setup() {
+			wrapper = ResourceBundleWrapper.forClass(ResourceBundleWrapperBenchmark.class);
+			timeout = wrapper.getInt("timeout");
+			greetingKey = "greeting";
+			timeoutKey = "timeout";
+			timeout.getAsInt();
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class Cold {
+		ResourceBundleWrapper wrapper;
+
+		@Setup(Level.Invocation)
+		public void reset() {
+			wrapper = ResourceBundleWrapper.forClass(ResourceBundleWrapperBenchmark.class);
+			wrapper.reset();
+		}
+	}
+
+	@Benchmark
+	public String getStringValue(Warm state) {
+		return state.wrapper.getStringValue(state.greetingKey);
+	}
+
+	@Benchmark
+	public Integer getIntegerGet(Warm state) {
+		return state.wrapper.getInteger(state.timeoutKey).get();
+	}
+
+	@Benchmark
+	public int heldIntegerGetAsInt(Warm state) {
+		return state.timeout.getAsInt();
+	}
+
+	@Benchmark
+	public int getIntegerEnumKey(Warm state) {
+		return state.wrapper.getInt(Color.RED, "weight").getAsInt();
+	}
+
+	/**
+	 * The first read after a `reset`, which loads and parses the bundle again.
+	 * 
+	 * In `SingleShotTime` mode each iteration times a single call, and the
+	 * `Level.Invocation` setup of `Cold` runs untimed before it, so the result is
+	 * the time of one cold read rather than a throughput. It covers loading the
+	 * bundle from its source and resolving the getter, but not class loading.
+	 * With only a few warm-up calls, the code runs mostly interpreted or lightly
+	 * compiled, much as it does while an application starts.
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@Measurement(iterations = 50)
+	@Warmup(iterations = 10)
+	public Integer getIntegerGetCold(Cold state) {
+		return state.wrapper.getInteger("timeout").get();
+	}
+}
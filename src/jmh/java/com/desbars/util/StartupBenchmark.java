@@ -0,0 +1,129 @@
+package com.desbars.util;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of first touching a utility class, as seen on the startup
+ * path of a short-lived program.
+ *
+ * Every invocation loads the library afresh through a new class loader, so
+ * that class initialization, including any message resolution it triggers, is
+ * measured each time rather than only once per JVM. Finding the class and the
+ * method happens in the setup, so only the first call is timed.
+ *
+ * To compare against an earlier version, build its jar and pass it as the
+ * `library` parameter, then compare the two result files:
+ *
+ * ```
+ * git worktree add ../before <commit>
+ * mvn -f ../before/pom.xml package -Dmaven.test.skip -Djacoco.skip
+ * mvn -Pjmh test-compile exec:exec -Djmh.result=before.json \
+ *     -Djmh.args="StartupBenchmark -p library=../before/target/util-1.0-SNAPSHOT.jar"
+ * mvn -Pjmh test-compile exec:exec -Djmh.result=after.json -Djmh.args=StartupBenchmark
+ * python3 src/jmh/compare.py before.json after.json --ignore-param library
+ * ```
+ *
+ * @author Darren
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20)
+@Measurement(iterations = 50)
+@Fork(3)
+public class StartupBenchmark {
+
+	/**
+	 * The jar or class directory to load, or empty for this build's classes.
+	 */
+	@Param("")
+	public String library;
+
+	private URLClassLoader loader;
+
+	private Method forEnum;
+
+	private Method getFieldSummary;
+
+	private Method forName;
+
+	private Method get;
+
+	@Setup(Level.Invocation)
+	public void newLoader() throws ReflectiveOperationException, MalformedURLException {
+		URL url = library.isEmpty() ? ResourceBundleWrapper.class.getProtectionDomain().getCodeSource().getLocation()
+				: Paths.get(library).toUri().toURL();
+		loader = new URLClassLoader(new URL[] { url }, ClassLoader.getPlatformClassLoader());
+
+		forEnum = method("com.desbars.util.EnumWrapper", "forEnum", Class.class);
+		getFieldSummary = method("com.desbars.util.ReflectionUtil", "getFieldSummary", Object.class, String[].class);
+		forName = method("com.desbars.util.ResourceBundleWrapper", "forName", String.class);
+		get = method("com.desbars.util.Messages", "get", String.class);
+	}
+
+	@TearDown(Level.Invocation)
+	public void closeLoader() throws IOException {
+		loader.close();
+	}
+
+	/**
+	 * @return `name` of the class `className`, loaded but not initialized
+	 */
+	private Method method(String className, String name, Class<?>... parameterTypes) throws ReflectiveOperationException {
+		Method method = Class.forName(className, false, loader).getDeclaredMethod(name, parameterTypes);
+		method.setAccessible(true);
+		return method;
+	}
+
+	/**
+	 * `EnumWrapper.forEnum`, as on the first use of an enum.
+	 */
+	@Benchmark
+	public Object enumWrapper() throws ReflectiveOperationException {
+		return forEnum.invoke(null, TimeUnit.class);
+	}
+
+	/**
+	 * `ReflectionUtil.getFieldSummary`.
+	 */
+	@Benchmark
+	public Object reflectionUtil() throws ReflectiveOperationException {
+		return getFieldSummary.invoke(null, this, new String[] { "library" });
+	}
+
+	/**
+	 * `ResourceBundleWrapper.forName`, without reading a property.
+	 */
+	@Benchmark
+	public Object resourceBundleWrapper() throws ReflectiveOperationException {
+		return forName.invoke(null, "com.desbars.util.Missing");
+	}
+
+	/**
+	 * The first message, as on the first error reported.
+	 */
+	@Benchmark
+	public Object firstMessage() throws ReflectiveOperationException {
+		return get.invoke(null, "INVALID_ENUM");
+	}
+}
@@ -0,0 +1,449 @@
+package com.desbars.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileManager;
+import javax.tools.StandardLocation;
+
+/**
+ * Generates the typed accessor classes requested by `BundleAccessors`.
+ *
+ * The bundle's base `.properties` file is looked up next to the compiled
+ * classes (where the build copies resources), then on the source path and the
+ * class path. Each key becomes a `public static final` getter, typed from its
+ * value: `IIntValue` for an `int`, then `IValue` of `Long`, `Double`,
+ * `Boolean`, or `String`.
+ *
+ * For example, with `Thing.properties` holding `timeout=30` and
+ * `Color.RED.weight=3`, annotating `Thing` with
+ * `@BundleAccessors(enums = Color.class)` generates:
+ *
+ * ```
+ * public final class ThingProperties {
+ *     public static final IIntValue TIMEOUT = BUNDLE.getInt("timeout");
+ *     public static IIntValue colorWeight(Color constant) { ... }
+ * }
+ * ```
+ *
+ * The build fails if the bundle cannot be found, if a constant of a listed
+ * enum has no value for a key that other constants have, or if two keys map to
+ * the same name.
+ *
+ * The processor must be named when compiling, as described in
+ * `BundleAccessors`.
+ *
+ * @author Darren
+ */
+@SupportedAnnotationTypes("com.desbars.util.BundleAccessors")
+public class BundleAccessorProcessor extends AbstractProcessor {
+
+	private static final JavaFileManager.Location[] RESOURCE_LOCATIONS = { StandardLocation.CLASS_OUTPUT,
+			StandardLocation.SOURCE_PATH, StandardLocation.CLASS_PATH };
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		for (Element element : roundEnv.getElementsAnnotatedWith(BundleAccessors.class)) {
+			if (element instanceof TypeElement) {
+				try {
+					generate((TypeElement) element);
+				} catch (IOException e) {
+					error(element, GENERATION_FAILED.get() + e);
+				}
+			}
+		}
+		return true;
+	}
+
+	private void error(Element element, String message) {
+		processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+	}
+
+	private void generate(TypeElement owner) throws IOException {
+		BundleAccessors annotation = owner.getAnnotation(BundleAccessors.class);
+		String bundleName = annotation.value().isEmpty() ? owner.getQualifiedName().toString() : annotation.value();
+		String className = annotation.className().isEmpty() ? owner.getSimpleName() + "Properties" //$NON-NLS-1$
+				: annotation.className();
+		String packageName = processingEnv.getElementUtils().getPackageOf(owner).getQualifiedName().toString();
+
+		Map<String, String> properties = readBundle(bundleName);
+		if (properties == null) {
+			error(owner, BUNDLE_NOT_FOUND.get() + bundleName);
+			return;
+		}
+
+		// Sorted, so that the generated class does not depend on hash order
+		Map<String, String> remaining = new TreeMap<>(properties);
+		List<EnumAccessor> enumAccessors = new ArrayList<>();
+		for (TypeElement enumType : enumTypes(owner)) {
+			enumAccessors.addAll(groupEnumKeys(owner, enumType, remaining));
+		}
+
+		Set<String> names = new HashSet<>();
+		StringBuilder body = new StringBuilder();
+		for (Map.Entry<String, String> property : remaining.entrySet()) {
+			String key = property.getKey();
+			String name = constantName(key);
+			if (!names.add(name)) {
+				error(owner, DUPLICATE_NAME.get() + name + " (" + key + ")"); //$NON-NLS-1$ //$NON-NLS-2$
+				continue;
+			}
+			ValueType type = ValueType.of(property.getValue());
+			body.append("\n\t/**\n\t * ").append(comment(key)).append("\n\t */\n") //$NON-NLS-1$ //$NON-NLS-2$
+					.append("\tpublic static final ").append(type.valueType).append(' ').append(name) //$NON-NLS-1$
+					.append(" = BUNDLE.").append(type.getter).append('(').append(literal(key)).append(");\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		for (EnumAccessor accessor : enumAccessors) {
+			// The table field is named like the constant of a plain key, such as
+			// `COLOR_WEIGHT` for `Color.weight`
+			String duplicate = !names.add(accessor.tableName) ? accessor.tableName
+					: !names.add(accessor.methodName) ? accessor.methodName : null;
+			if (duplicate != null) {
+				error(owner, DUPLICATE_NAME.get() + duplicate + " (" + accessor.key + ")"); //$NON-NLS-1$ //$NON-NLS-2$
+				continue;
+			}
+			accessor.appendTo(body);
+		}
+
+		String qualifiedName = packageName.isEmpty() ? className : packageName + '.' + className;
+		try (Writer out = processingEnv.getFiler().createSourceFile(qualifiedName, owner).openWriter()) {
+			if (!packageName.isEmpty()) {
+				out.append("package ").append(packageName).append(";\n\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			out.append("/**\n * Typed accessors for the ").append(comment(bundleName)).append(" bundle.\n */\n") //$NON-NLS-1$ //$NON-NLS-2$
+					.append("@javax.annotation.processing.Generated(\"") //$NON-NLS-1$
+					.append(BundleAccessorProcessor.class.getName()).append("\")\n") //$NON-NLS-1$
+					.append("public final class ").append(className).append(" {\n\n") //$NON-NLS-1$ //$NON-NLS-2$
+					.append("\tprivate static final com.desbars.util.ResourceBundleWrapper BUNDLE = ") //$NON-NLS-1$
+					.append("com.desbars.util.ResourceBundleWrapper.forName(").append(literal(bundleName)) //$NON-NLS-1$
+					.append(");\n").append(body) //$NON-NLS-1$
+					.append("\n\tprivate ").append(className).append("() {\n\t}\n}\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	private Map<String, String> readBundle(String bundleName) {
+		int dot = bundleName.lastIndexOf('.');
+		String packageName = dot < 0 ? "" : bundleName.substring(0, dot); //$NON-NLS-1$
+		String fileName = bundleName.substring(dot + 1) + ".properties"; //$NON-NLS-1$
+
+		for (JavaFileManager.Location location : RESOURCE_LOCATIONS) {
+			try {
+				FileObject file = processingEnv.getFiler().getResource(location, packageName, fileName);
+				try (InputStream in = file.openInputStream()) {
+					return PropertiesParser.parse(ByteBuffer.wrap(in.readAllBytes()));
+				}
+			} catch (IOException | IllegalArgumentException e) {
+				// Not in this location
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @return the types listed in `BundleAccessors.enums`
+	 */
+	private List<TypeElement> enumTypes(TypeElement owner) {
+		List<TypeElement> enumTypes = new ArrayList<>();
+		for (AnnotationMirror mirror : owner.getAnnotationMirrors()) {
+			if (!((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName()
+					.contentEquals(BundleAccessors.class.getCanonicalName())) {
+				continue;
+			}
+			for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues()
+					.entrySet()) {
+				if (entry.getKey().getSimpleName().contentEquals("enums")) { //$NON-NLS-1$
+					for (Object value : (List<?>) entry.getValue().getValue()) {
+						TypeMirror type = (TypeMirror) ((AnnotationValue) value).getValue();
+						enumTypes.add((TypeElement) ((DeclaredType) type).asElement());
+					}
+				}
+			}
+		}
+		return enumTypes;
+	}
+
+	/**
+	 * Remove the keys of the form `Enum.CONSTANT.key` for `enumType` from
+	 * `remaining`, and group them by `key`.
+	 */
+	private List<EnumAccessor> groupEnumKeys(TypeElement owner, TypeElement enumType, Map<String, String> remaining) {
+		List<String> constants = new ArrayList<>();
+		for (Element member : enumType.getEnclosedElements()) {
+			if (member.getKind() == ElementKind.ENUM_CONSTANT) {
+				constants.add(member.getSimpleName().toString());
+			}
+		}
+
+		String prefix = enumType.getSimpleName() + "."; //$NON-NLS-1$
+		Map<String, Map<String, String>> valuesByKey = new LinkedHashMap<>();
+		for (String constant : constants) {
+			String constantPrefix = prefix + constant + '.';
+			for (Map.Entry<String, String> property : remaining.entrySet()) {
+				if (property.getKey().startsWith(constantPrefix)) {
+					String key = property.getKey().substring(constantPrefix.length());
+					valuesByKey.computeIfAbsent(key, k -> new LinkedHashMap<>()).put(constant, property.getValue());
+				}
+			}
+		}
+
+		List<EnumAccessor> accessors = new ArrayList<>();
+		for (Map.Entry<String, Map<String, String>> entry : valuesByKey.entrySet()) {
+			String key = entry.getKey();
+			Map<String, String> values = entry.getValue();
+			for (String constant : constants) {
+				String fullKey = prefix + constant + '.' + key;
+				if (!values.containsKey(constant)) {
+					error(owner, MISSING_KEY.get() + fullKey);
+				}
+				remaining.remove(fullKey);
+			}
+
+			ValueType type = null;
+			for (String value : values.values()) {
+				type = ValueType.common(type, ValueType.of(value));
+			}
+			accessors.add(new EnumAccessor(enumType, key, type));
+		}
+		return accessors;
+	}
+
+	/**
+	 * An accessor method for `key` on every constant of an enum.
+	 */
+	private static final class EnumAccessor {
+		private final String enumName;
+		private final String key;
+		private final ValueType type;
+		private final String tableName;
+		private final String methodName;
+
+		private EnumAccessor(TypeElement enumType, String key, ValueType type) {
+			this.enumName = enumType.getQualifiedName().toString();
+			this.key = key;
+			this.type = type;
+			this.tableName = constantName(enumType.getSimpleName() + "." + key); //$NON-NLS-1$
+			this.methodName = methodName(tableName);
+		}
+
+		void appendTo(StringBuilder body) {
+			String tableType = "com.desbars.util.EnumTable<" + enumName + ", " + type.valueType + ">"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			String keyExpression = type == ValueType.INTEGER ? "constant, " + literal(key) //$NON-NLS-1$
+					: "com.desbars.util.ResourceBundleWrapper.getEnumValueKey(constant, " + literal(key) + ")"; //$NON-NLS-1$ //$NON-NLS-2$
+
+			body.append("\n\tprivate static final ").append(tableType).append(' ').append(tableName) //$NON-NLS-1$
+					.append(" = com.desbars.util.EnumWrapper.forEnum(").append(enumName).append(".class)\n") //$NON-NLS-1$ //$NON-NLS-2$
+					.append("\t\t\t.createTable(constant -> BUNDLE.").append(type.getter).append('(') //$NON-NLS-1$
+					.append(keyExpression).append("));\n") //$NON-NLS-1$
+					.append("\n\t/**\n\t * ").append(comment(key)).append(" of each ") //$NON-NLS-1$ //$NON-NLS-2$
+					.append(comment(enumName)).append(" constant\n\t */\n") //$NON-NLS-1$
+					.append("\tpublic static ").append(type.valueType).append(' ').append(methodName).append('(') //$NON-NLS-1$
+					.append(enumName).append(" constant) {\n\t\treturn ").append(tableName) //$NON-NLS-1$
+					.append(".get(constant);\n\t}\n"); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * The type a property is read as, inferred from its value.
+	 */
+	private enum ValueType {
+		INTEGER("com.desbars.util.IIntValue", "getInt"), //$NON-NLS-1$ //$NON-NLS-2$
+		LONG("com.desbars.util.IValue<Long>", "getLong"), //$NON-NLS-1$ //$NON-NLS-2$
+		DOUBLE("com.desbars.util.IValue<Double>", "getDouble"), //$NON-NLS-1$ //$NON-NLS-2$
+		BOOLEAN("com.desbars.util.IValue<Boolean>", "getBoolean"), //$NON-NLS-1$ //$NON-NLS-2$
+		STRING("com.desbars.util.IValue<String>", "getString"); //$NON-NLS-1$ //$NON-NLS-2$
+
+		/**
+		 * Plain ASCII digits, without the whitespace and other digits that
+		 * `Integer.parseInt` accepts.
+		 */
+		private static final Pattern WHOLE = Pattern.compile("[+-]?[0-9]+"); //$NON-NLS-1$
+
+		/**
+		 * Plain decimal numbers, without the `d`/`f` suffixes, whitespace, hex,
+		 * `NaN` and `Infinity` that `Double.parseDouble` accepts, so that values
+		 * such as `7d` are read as strings.
+		 */
+		private static final Pattern DECIMAL = Pattern
+				.compile("[+-]?([0-9]+\\.?[0-9]*|\\.[0-9]+)([eE][+-]?[0-9]+)?"); //$NON-NLS-1$
+
+		private final String valueType;
+		private final String getter;
+
+		private ValueType(String valueType, String getter) {
+			this.valueType = valueType;
+			this.getter = getter;
+		}
+
+		static ValueType of(String value) {
+			if ("true".equalsIgnoreCase(value) || "false".equalsIgnoreCase(value)) { //$NON-NLS-1$ //$NON-NLS-2$
+				return BOOLEAN;
+			}
+			if (WHOLE.matcher(value).matches()) {
+				try {
+					Integer.parseInt(value);
+					return INTEGER;
+				} catch (NumberFormatException e) {
+					// Not an int
+				}
+				try {
+					Long.parseLong(value);
+					return LONG;
+				} catch (NumberFormatException e) {
+					// Not a long, but still a double
+				}
+			}
+			return DECIMAL.matcher(value).matches() ? DOUBLE : STRING;
+		}
+
+		/**
+		 * @return a type that can read values of both types
+		 */
+		static ValueType common(ValueType a, ValueType b) {
+			if (a == null || a == b) {
+				return b;
+			}
+			if (a == BOOLEAN || b == BOOLEAN || a == STRING || b == STRING) {
+				return STRING;
+			}
+			// Numbers widen from int to long to double
+			return a.ordinal() > b.ordinal() ? a : b;
+		}
+	}
+
+	/**
+	 * Convert a key such as `Color.RED.maxValue` to a constant name such as
+	 * `COLOR_RED_MAX_VALUE`.
+	 */
+	static String constantName(String key) {
+		StringBuilder sb = new StringBuilder(key.length() + 8);
+		char previous = '_';
+		for (int i = 0; i < key.length(); ++i) {
+			char c = key.charAt(i);
+			if (c < 128 && Character.isLetterOrDigit(c)) {
+				if (Character.isUpperCase(c) && (Character.isLowerCase(previous) || Character.isDigit(previous))) {
+					sb.append('_');
+				}
+				sb.append(Character.toUpperCase(c));
+			} else if (sb.length() > 0 && sb.charAt(sb.length() - 1) != '_') {
+				sb.append('_');
+			}
+			previous = c;
+		}
+		while (sb.length() > 0 && sb.charAt(sb.length() - 1) == '_') {
+			sb.setLength(sb.length() - 1);
+		}
+		if (sb.length() == 0 || Character.isDigit(sb.charAt(0))) {
+			sb.insert(0, '_');
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Convert a constant name such as `COLOR_MAX_VALUE` to a method name such as
+	 * `colorMaxValue`.
+	 */
+	static String methodName(String constantName) {
+		StringBuilder sb = new StringBuilder(constantName.length());
+		boolean upper = false;
+		for (int i = 0; i < constantName.length(); ++i) {
+			char c = constantName.charAt(i);
+			if (c == '_') {
+				upper = sb.length() > 0;
+			} else {
+				sb.append(upper ? c : Character.toLowerCase(c));
+				upper = false;
+			}
+		}
+		String name = sb.toString();
+		return SourceVersion.isName(name) ? name : '_' + name;
+	}
+
+	/**
+	 * @return `s` as a Java string literal
+	 */
+	static String literal(String s) {
+		StringBuilder sb = new StringBuilder(s.length() + 2).append('"');
+		for (int i = 0; i < s.length(); ++i) {
+			char c = s.charAt(i);
+			switch (c) {
+			case '"':
+				sb.append("\\\""); //$NON-NLS-1$
+				break;
+			case '\\':
+				sb.append("\\\\"); //$NON-NLS-1$
+				break;
+			case '\n':
+				sb.append("\\n"); //$NON-NLS-1$
+				break;
+			case '\r':
+				sb.append("\\r"); //$NON-NLS-1$
+				break;
+			case '\t':
+				sb.append("\\t"); //$NON-NLS-1$
+				break;
+			default:
+				if (c < ' ' || c > '~') {
+					sb.append(String.format("\\u%04x", (int) c)); //$NON-NLS-1$
+				} else {
+					sb.append(c);
+				}
+			}
+		}
+		return sb.append('"').toString();
+	}
+
+	/**
+	 * @return `s`, safe to place in a comment
+	 */
+	static String comment(String s) {
+		StringBuilder sb = new StringBuilder(s.length() + 2).append('`');
+		for (int i = 0; i < s.length(); ++i) {
+			char c = s.charAt(i);
+			if (c == '\\') {
+				// Doubled, so that no unicode escape can start here
+				sb.append("\\\\"); //$NON-NLS-1$
+			} else if (c == '/' && i > 0 && s.charAt(i - 1) == '*') {
+				sb.append("&#47;"); //$NON-NLS-1$
+			} else if (c < ' ' || c > '~') {
+				sb.append('?');
+			} else {
+				sb.append(c);
+			}
+		}
+		return sb.append('`').toString();
+	}
+
+	static final IValue<String> BUNDLE_NOT_FOUND = new LazyMessage("BundleAccessorProcessor.BUNDLE_NOT_FOUND");
+	static final IValue<String> MISSING_KEY = new LazyMessage("BundleAccessorProcessor.MISSING_KEY");
+	static final IValue<String> DUPLICATE_NAME = new LazyMessage("BundleAccessorProcessor.DUPLICATE_NAME");
+	static final IValue<String> GENERATION_FAILED = new LazyMessage("BundleAccessorProcessor.GENERATION_FAILED");
+}
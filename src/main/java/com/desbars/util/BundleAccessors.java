@@ -0,0 +1,67 @@
+package com.desbars.util;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generate typed accessors for the keys of a `.properties` bundle at build
+ * time.
+ * 
+ * `BundleAccessorProcessor` reads the bundle's base `.properties` file while
+ * the annotated type is compiled, and generates a class holding one getter per
+ * key, created once from a constant key. Reading a property through the
+ * generated class then skips key building, hashing and the getter lookup;
+ * only the getter's own check that its value is still current remains.
+ * 
+ * Keys of the form `Enum.CONSTANT.key`, for an enum listed in `enums`, are
+ * instead grouped into one accessor method taking the constant. Every constant
+ * must then have a value for the key, or the build fails.
+ * 
+ * The processor is not registered as a service, so that it does not run in
+ * every build that has this library on its class path. It must be named when
+ * compiling, with `-processor com.desbars.util.BundleAccessorProcessor`, or in
+ * the `maven-compiler-plugin` configuration:
+ * 
+ * ```
+ * <annotationProcessorPaths>
+ *     <path>
+ *         <groupId>com.desbars</groupId>
+ *         <artifactId>util</artifactId>
+ *         <version>...</version>
+ *     </path>
+ * </annotationProcessorPaths>
+ * <annotationProcessors>
+ *     <annotationProcessor>com.desbars.util.BundleAccessorProcessor</annotationProcessor>
+ * </annotationProcessors>
+ * ```
+ * 
+ * @author Darren
+ * @see BundleAccessorProcessor
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface BundleAccessors {
+
+	/**
+	 * @return the bundle name, or `""` for the canonical name of the annotated
+	 *         type, as used by `ResourceBundleWrapper.forClass`
+	 */
+	String value() default "";
+
+	/**
+	 * @return the simple name of the generated class, in the package of the
+	 *         annotated type, or `""` for the annotated type's name followed by
+	 *         `Properties`
+	 */
+	String className() default "";
+
+	/**
+	 * @return enums whose constants are used in keys, as built by
+	 *         `ResourceBundleWrapper.getEnumValueKey`
+	 */
+	Class<? extends Enum<?>>[] enums() default {};
+}
@@ -0,0 +1,159 @@
+package com.desbars.util;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * An immutable table of the properties of a loaded bundle.
+ *
+ * Keys and values are stored side by side in a single open-addressed array,
+ * with the hash of each key in a parallel array. Keys are interned, so lookups
+ * with literal or constant keys usually succeed on an identity comparison, and
+ * equal values are stored once. Lookups never lock and never throw: a missing
+ * key yields `null`.
+ *
+ * @author Darren
+ */
+public final class BundleTable {
+
+	/**
+	 * Estimated sizes, in bytes, assuming compressed references.
+	 */
+	private static final int OBJECT_HEADER = 12;
+	private static final int ARRAY_HEADER = 16;
+	private static final int REFERENCE = 4;
+	private static final int STRING = 24;
+
+	/**
+	 * Key at `2 * slot`, value at `2 * slot + 1`.
+	 */
+	private final String[] entries;
+
+	private final int[] hashes;
+
+	private final int mask;
+
+	private final int size;
+
+	private final long memoryUsage;
+
+	private BundleTable(Map<String, String> properties) {
+		int capacity = Integer.highestOneBit(Math.max(2, properties.size() * 2 - 1)) << 1;
+		this.entries = new String[capacity * 2];
+		this.hashes = new int[capacity];
+		this.mask = capacity - 1;
+		this.size = properties.size();
+
+		Map<String, String> distinctValues = new HashMap<>();
+		long stringBytes = 0;
+
+		for (Map.Entry<String, String> property : properties.entrySet()) {
+			String key = property.getKey().intern();
+			String value = property.getValue();
+			String distinct = distinctValues.putIfAbsent(value, value);
+			if (distinct == null) {
+				stringBytes += sizeOf(value);
+			} else {
+				value = distinct;
+			}
+			stringBytes += sizeOf(key);
+
+			int hash = mix(key.hashCode());
+			int slot = hash & mask;
+			while (entries[2 * slot] != null) {
+				slot = (slot + 1) & mask;
+			}
+			entries[2 * slot] = key;
+			entries[2 * slot + 1] = value;
+			hashes[slot] = hash;
+		}
+
+		this.memoryUsage = OBJECT_HEADER + 5 * REFERENCE //
+				+ ARRAY_HEADER + (long) entries.length * REFERENCE //
+				+ ARRAY_HEADER + (long) hashes.length * Integer.BYTES //
+				+ stringBytes;
+	}
+
+	/**
+	 * Create a table holding a copy of `properties`.
+	 *
+	 * @param properties
+	 * @return the table
+	 */
+	public static BundleTable of(Map<String, String> properties) {
+		return new BundleTable(properties);
+	}
+
+	private static int mix(int hash) {
+		return hash ^ (hash >>> 16);
+	}
+
+	private static long sizeOf(String string) {
+		// Assumes compact (one byte per character) strings for ASCII text
+		return STRING + ARRAY_HEADER + string.length();
+	}
+
+	/**
+	 * @param key
+	 * @return the value for `key`, or `null` if there is none
+	 */
+	public String get(String key) {
+		int hash = mix(key.hashCode());
+		for (int slot = hash & mask;; slot = (slot + 1) & mask) {
+			String candidate = entries[2 * slot];
+			if (candidate == key) {
+				return entries[2 * slot + 1];
+			}
+			if (candidate == null) {
+				return null;
+			}
+			if (hashes[slot] == hash && candidate.equals(key)) {
+				return entries[2 * slot + 1];
+			}
+		}
+	}
+
+	/**
+	 * @return the number of properties in the table
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return a new set of the keys of all properties in the table
+	 */
+	public Set<String> keySet() {
+		Set<String> keys = new HashSet<>();
+		forEach((key, value) -> keys.add(key));
+		return keys;
+	}
+
+	/**
+	 * Call `action` for every property in the table, in no particular order.
+	 *
+	 * @param action
+	 */
+	public void forEach(BiConsumer<String, String> action) {
+		for (int slot = 0; slot < hashes.length; ++slot) {
+			String key = entries[2 * slot];
+			if (key != null) {
+				action.accept(key, entries[2 * slot + 1]);
+			}
+		}
+	}
+
+	/**
+	 * Estimate the memory held by this table, including its keys and values.
+	 *
+	 * Interned keys may be shared with other tables, but are counted in full.
+	 *
+	 * @return the estimated size, in bytes
+	 */
+	public long getMemoryUsage() {
+		return memoryUsage;
+	}
+}
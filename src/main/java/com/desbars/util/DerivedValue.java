@@ -0,0 +1,129 @@
+package com.desbars.util;
+
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * A value computed from other values, and memoized until one of them changes.
+ *
+ * The memoized result records the version of each dependency it was computed
+ * from. A read compares those against the current versions, and only computes
+ * the result again when one differs. The getters of `ResourceBundleWrapper`
+ * report a new version only when a `reset` or `reload` changes their value, so
+ * a derived value is computed once per change of the keys it depends on,
+ * however often it is read. Other values have no version, and their current
+ * value stands for it, compared with `equals`.
+ *
+ * Only one thread computes the result at a time; the others wait for it. A
+ * result is not memoized if a dependency or the function throws.
+ *
+ * @author Darren
+ *
+ * @param <R> the type of the derived value
+ * @see IValue#map(Function)
+ * @see IValue#combine(IValue, IValue, java.util.function.BiFunction)
+ */
+final class DerivedValue<R> implements IValue<R>, IVersioned {
+
+	private final IValue<?>[] dependencies;
+
+	private final Function<Object[], ? extends R> function;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private volatile Memo<R> memo;
+
+	/**
+	 * @param dependencies
+	 * @param function     computes the value from those of `dependencies`, in
+	 *                     the same order
+	 */
+	DerivedValue(IValue<?>[] dependencies, Function<Object[], ? extends R> function) {
+		this.dependencies = dependencies;
+		this.function = function;
+	}
+
+	public R get() {
+		return currentMemo().value;
+	}
+
+	/**
+	 * @return the current memoized result, which changes whenever the value is
+	 *         computed again, or a new token if it cannot be computed
+	 */
+	public Object getVersion() {
+		try {
+			return currentMemo();
+		} catch (RuntimeException e) {
+			// Never matches, so that values derived from this one fail too
+			return new Object();
+		}
+	}
+
+	private Memo<R> currentMemo() {
+		Memo<R> memo = this.memo;
+		if (memo == null || !memo.isCurrent(dependencies)) {
+			memo = compute();
+		}
+		return memo;
+	}
+
+	private Memo<R> compute() {
+		lock.lock();
+		try {
+			// Another thread may have computed it while this one waited
+			Memo<R> memo = this.memo;
+			if (memo != null && memo.isCurrent(dependencies)) {
+				return memo;
+			}
+
+			Object[] versions = new Object[dependencies.length];
+			Object[] values = new Object[dependencies.length];
+			for (int i = 0; i < dependencies.length; ++i) {
+				IValue<?> dependency = dependencies[i];
+				if (dependency instanceof IVersioned) {
+					// The version is taken first, so that a change in between is
+					// seen by the next read
+					versions[i] = ((IVersioned) dependency).getVersion();
+					values[i] = dependency.get();
+				} else {
+					values[i] = versions[i] = dependency.get();
+				}
+			}
+
+			memo = new Memo<>(versions, function.apply(values));
+			this.memo = memo;
+			return memo;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private static Object getVersion(IValue<?> dependency) {
+		return dependency instanceof IVersioned ? ((IVersioned) dependency).getVersion() : dependency.get();
+	}
+
+	/**
+	 * An immutable result, and the versions of the dependencies it was computed
+	 * from.
+	 */
+	private static final class Memo<R> {
+		private final Object[] versions;
+		private final R value;
+
+		private Memo(Object[] versions, R value) {
+			this.versions = versions;
+			this.value = value;
+		}
+
+		private boolean isCurrent(IValue<?>[] dependencies) {
+			for (int i = 0; i < dependencies.length; ++i) {
+				if (!Objects.equals(versions[i], getVersion(dependencies[i]))) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+}
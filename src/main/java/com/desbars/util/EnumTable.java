@@ -0,0 +1,57 @@
+package com.desbars.util;
+
+import java.util.function.Function;
+
+/**
+ * An immutable table that attaches one value to each constant of an `Enum`
+ * type.
+ * 
+ * Values are stored in an array indexed by ordinal, so a lookup is a single
+ * array read. Tables are created through `EnumWrapper.createTable`.
+ * 
+ * @author Darren
+ *
+ * @param <E> an `Enum` type
+ * @param <V> the type of value attached to each constant
+ */
+public final class EnumTable<E extends Enum<?>, V> {
+
+	private final Object[] values;
+
+	EnumTable(E[] constants, Function<? super E, ? extends V> valueFor) {
+		this.values = new Object[constants.length];
+		for (E constant : constants) {
+			values[constant.ordinal()] = valueFor.apply(constant);
+		}
+	}
+
+	/**
+	 * Obtain the value attached to `constant`.
+	 * 
+	 * @param constant
+	 * @return the value attached to `constant`
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(E constant) {
+		return (V) values[constant.ordinal()];
+	}
+
+	/**
+	 * Obtain the value attached to the constant with the given `ordinal`.
+	 * 
+	 * @param ordinal
+	 * @return the value attached to the constant with `ordinal`
+	 * @throws IndexOutOfBoundsException if `ordinal` is not a valid ordinal
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(int ordinal) {
+		return (V) values[ordinal];
+	}
+
+	/**
+	 * @return the number of constants in the table
+	 */
+	public int size() {
+		return values.length;
+	}
+}
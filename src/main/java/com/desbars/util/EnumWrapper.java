@@ -1,7 +1,8 @@
 package com.desbars.util;
 
-import java.lang.reflect.Method;
-import java.util.HashMap;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -12,51 +13,85 @@ import java.util.function.Function;
  *
  * @param <E> an `Enum` type
  */
-public class EnumWrapper<E extends Enum<?>> {
+public class EnumWrapper<E extends Enum<?>> implements EnumWrapperMessages {
 
+	/**
+	 * Declared names and synonyms, in registration order. Guarded by `this`.
+	 */
 	private final Map<String, E> stringToEnum;
 
-	private final Method values;
+	private volatile NameTable<E> exactNames;
+
+	private volatile NameTable<E> foldedNames;
+
+	/**
+	 * The enum constants, indexed by ordinal. Never exposed directly.
+	 */
+	private final E[] constants;
+
+	private final List<E> constantList;
+
+	private final Class<E> enumType;
+
+	/**
+	 * This type's counters, once looked up while `LookupMetrics` is enabled.
+	 */
+	private LookupMetrics.KeyCounters counters;
 	
-	private static Map<Class<?>, EnumWrapper<?>> wrapperMap = new HashMap<>();
-	@SuppressWarnings({ "unchecked", "rawtypes" })
-	public static <E extends Enum<E>> EnumWrapper<E> forEnum(Class<E> cls) {
-		EnumWrapper<?> wrapper = wrapperMap.get(cls);
-		if (wrapper == null) {
-			wrapper = new EnumWrapper(cls);
-			wrapperMap.put(cls, wrapper);
+	/**
+	 * Registry of wrappers, one per enum class.
+	 * 
+	 * `ClassValue` publishes exactly one value per class even if several threads
+	 * race to compute it, and a cache hit is a lock-free read that does not
+	 * allocate.
+	 */
+	private static final ClassValue<EnumWrapper<?>> wrapperMap = new ClassValue<>() {
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		@Override
+		protected EnumWrapper<?> computeValue(Class<?> cls) {
+			return new EnumWrapper(cls);
 		}
-		
-		return (EnumWrapper<E>)wrapper;
+	};
+
+	/**
+	 * Obtain the unique `EnumWrapper` instance for an enum class.
+	 * 
+	 * This method is safe to call from multiple threads.
+	 * 
+	 * @param cls an enum class
+	 * @return the `EnumWrapper` for `cls`
+	 * @throws IllegalArgumentException if `cls` is not an enum class
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E extends Enum<E>> EnumWrapper<E> forEnum(Class<E> cls) {
+		return (EnumWrapper<E>) wrapperMap.get(cls);
 	}
 	
 	private EnumWrapper(Class<E> enumType) {
-		try {
-			this.values = enumType.getMethod("values"); // Get `values` method from enum
-			this.stringToEnum = new HashMap<>();
-
-			for (E value : values()) {
-				String name = value.name();
-				stringToEnum.putIfAbsent(name.toUpperCase(), value);
-				String unspacedName = name.replaceAll("_", "");
-
-				if (unspacedName != name) {
-					stringToEnum.putIfAbsent(unspacedName.toUpperCase(), value);
-				}
-			}
-			
-			for (E value : values()) {
-				// Put the original enum name as a key, and overwrite any existing
-				// upperCase synonyms
-				stringToEnum.put(value.name(), value);
-			}
-			
-
-		} catch (NoSuchMethodException | ClassCastException e) {
+		this.constants = enumType.getEnumConstants();
+		if (constants == null) {
 			// This should not happen unless a non-enum class is passed as `enumType`
-			throw new IllegalArgumentException(Messages.INVALID_ENUM + enumType, e);
+			throw new IllegalArgumentException(Messages.INVALID_ENUM.get() + enumType);
 		}
+		this.constantList = List.of(constants);
+		this.enumType = enumType;
 
+		this.stringToEnum = new LinkedHashMap<>();
+		for (E value : constants) {
+			stringToEnum.put(value.name(), value);
+		}
+
+		publishNames();
+	}
+
+	/**
+	 * Rebuild the lookup tables from `stringToEnum` and publish them.
+	 * 
+	 * The tables are immutable, so readers never need to lock.
+	 */
+	private void publishNames() {
+		this.foldedNames = new NameTable<>(stringToEnum, true);
+		this.exactNames = new NameTable<>(stringToEnum, false);
 	}
 
 	/**
@@ -66,49 +101,370 @@ public class EnumWrapper<E extends Enum<?>> {
 	 * @param value
 	 * @throws IllegalArgumentException if the `name` already is being used
 	 */
-	public void setSynonym(String name, E value) {
+	public synchronized void setSynonym(String name, E value) {
 		E oldValue = stringToEnum.putIfAbsent(name, value);
 		if (oldValue != null) {
-			throw new IllegalArgumentException(SYNONYM_ALREADY_EXISTS + name + " -> " + oldValue);
+			throw new IllegalArgumentException(Templates.SYNONYM_CONFLICT
+					.appendTo(new StringBuilder(SYNONYM_ALREADY_EXISTS), name, oldValue).toString());
 		}
+		publishNames();
 	}
 
 	/**
-	 * Delegate to the wrapped enum's `values` method
+	 * Equivalent to the wrapped enum's `values` method.
+	 * 
+	 * The constants are cached, so this costs one array copy and no reflection.
+	 * Use `valueList` to iterate without copying.
 	 * 
 	 * @return the array of all enums of the wrapped type.
 	 */
 	public E[] values() {
-		return ReflectionUtil.tryMethod(values, null);
+		return constants.clone();
+	}
+
+	/**
+	 * Obtain all enums of the wrapped type as an unmodifiable list.
+	 * 
+	 * The same cached list is returned on every call.
+	 * 
+	 * @return the list of all enums of the wrapped type, in ordinal order.
+	 */
+	public List<E> valueList() {
+		return constantList;
+	}
+
+	/**
+	 * Obtain an enum by its ordinal.
+	 * 
+	 * @param ordinal
+	 * @return the enum whose `ordinal()` is `ordinal`.
+	 * @throws IllegalArgumentException if no enum has the given `ordinal`
+	 */
+	public E forOrdinal(int ordinal) {
+		if (ordinal < 0 || ordinal >= constants.length) {
+			throw new IllegalArgumentException(Messages.INVALID_ENUM.get() + ordinal);
+		}
+		return constants[ordinal];
+	}
+
+	/**
+	 * @return the number of constants in the wrapped enum type.
+	 */
+	public int size() {
+		return constants.length;
+	}
+
+	/**
+	 * Create a table attaching a value to each constant of the wrapped type.
+	 * 
+	 * `valueFor` is called once per constant, in ordinal order, when the table is
+	 * created. Reading the table afterwards is a single array access.
+	 * 
+	 * @param valueFor computes the value for each constant
+	 * @return the resulting table
+	 */
+	public <V> EnumTable<E, V> createTable(Function<? super E, ? extends V> valueFor) {
+		return new EnumTable<>(constants, valueFor);
 	}
 
 	/**
-	 * Obtain an enum by its name or a synonym declared by `setSynonym
+	 * Obtain an enum by its name or a synonym declared by `setSynonym`.
+	 * 
+	 * An exact match is tried first. Failing that, case and underscores are
+	 * ignored, so `"TEST_ZERO"`, `"TestZero"` and `"testzero"` all resolve to the
+	 * same value. Neither lookup allocates.
 	 * 
 	 * @param name
 	 * @return enum associated with the given `name`.
+	 * @throws IllegalArgumentException if no enum is associated with `name`
+	 */
+	public E valueOf(CharSequence name) {
+		E value = exactNames.get(name);
+		if (value == null) {
+			value = foldedNames.get(name);
+		}
+
+		if (value == null) {
+			throw invalidName(name);
+		}
+		if (LookupMetrics.enabled) {
+			counters().hits.increment();
+		}
+		return value;
+	}
+
+	/**
+	 * Obtain an enum by its name or a synonym declared by `setSynonym`.
+	 * 
+	 * Same as `valueOf(CharSequence)`, kept for callers compiled against this
+	 * signature.
+	 * 
+	 * @param name
+	 * @return enum associated with the given `name`.
+	 * @throws IllegalArgumentException if no enum is associated with `name`
 	 */
 	public E valueOf(String name) {
-		// Try basic value
-		E value = stringToEnum.get(name);
-		
-		if (value != null) {
-			return value;
+		return valueOf((CharSequence) name);
+	}
+
+	/**
+	 * Obtain an enum by a name stored in a slice of a `char` array.
+	 * 
+	 * Behaves like `valueOf(CharSequence)` without copying the characters.
+	 * 
+	 * @param chars
+	 * @param offset index of the first character of the name
+	 * @param length number of characters in the name
+	 * @return enum associated with the given name.
+	 * @throws IllegalArgumentException if no enum is associated with the name
+	 */
+	public E valueOf(char[] chars, int offset, int length) {
+		E value = exactNames.get(chars, offset, length);
+		if (value == null) {
+			value = foldedNames.get(chars, offset, length);
 		}
-	
-		// Try a potential uppercase synonym
-		name = name.toUpperCase();
-		value = stringToEnum.get(name);
-		
-		if (value != null) {
-			return value;
+
+		if (value == null) {
+			throw invalidName(new String(chars, offset, length));
 		}
-		else {
-			throw new IllegalArgumentException(Messages.INVALID_ENUM + name);
+		if (LookupMetrics.enabled) {
+			counters().hits.increment();
 		}
-		
+		return value;
 	}
 
-	
-	public static final String SYNONYM_ALREADY_EXISTS = Messages.get("EnumWrapper.SYNONYM_ALREADY_EXISTS");
+	/**
+	 * Obtain an enum by a name stored in a slice of a `byte` array.
+	 * 
+	 * Each byte is read as one ISO-8859-1 character, which covers ASCII enum
+	 * names without decoding the bytes into a `String`.
+	 * 
+	 * @param bytes
+	 * @param offset index of the first byte of the name
+	 * @param length number of bytes in the name
+	 * @return enum associated with the given name.
+	 * @throws IllegalArgumentException if no enum is associated with the name
+	 */
+	public E valueOf(byte[] bytes, int offset, int length) {
+		E value = exactNames.get(bytes, offset, length);
+		if (value == null) {
+			value = foldedNames.get(bytes, offset, length);
+		}
+
+		if (value == null) {
+			throw invalidName(new String(bytes, offset, length, StandardCharsets.ISO_8859_1));
+		}
+		if (LookupMetrics.enabled) {
+			counters().hits.increment();
+		}
+		return value;
+	}
+
+	private IllegalArgumentException invalidName(CharSequence name) {
+		LookupMetrics.enumLookupFailed(LookupMetrics.enabled ? counters() : null, enumType, name);
+		return new IllegalArgumentException(Messages.INVALID_ENUM.get() + name);
+	}
+
+	private LookupMetrics.KeyCounters counters() {
+		LookupMetrics.KeyCounters counters = this.counters;
+		if (counters == null) {
+			// A race only looks up the same counters twice
+			this.counters = counters = LookupMetrics.forEnum(enumType);
+		}
+		return counters;
+	}
+
+	/**
+	 * An immutable open-addressed table from names to enum values.
+	 * 
+	 * When `folded`, keys are stored upper case with underscores removed, and
+	 * lookups fold each character the same way as they go. No key is ever
+	 * materialized for a lookup, so hits and misses do not allocate.
+	 */
+	private static final class NameTable<E> {
+
+		private final boolean folded;
+		private final String[] keys;
+		private final Object[] values;
+		private final int[] hashes;
+		private final int mask;
+
+		private NameTable(Map<String, E> entries, boolean folded) {
+			this.folded = folded;
+
+			int capacity = Integer.highestOneBit(Math.max(2, entries.size() * 2 - 1)) << 1;
+			this.keys = new String[capacity];
+			this.values = new Object[capacity];
+			this.hashes = new int[capacity];
+			this.mask = capacity - 1;
+
+			for (Map.Entry<String, E> entry : entries.entrySet()) {
+				String key = folded ? fold(entry.getKey()) : entry.getKey();
+				int hash = hash(key);
+				int slot = hash & mask;
+				while (keys[slot] != null && !keys[slot].equals(key)) {
+					slot = (slot + 1) & mask;
+				}
+				// Earlier entries win, so declared names take precedence over synonyms
+				if (keys[slot] == null) {
+					keys[slot] = key;
+					values[slot] = entry.getValue();
+					hashes[slot] = hash;
+				}
+			}
+		}
+
+		private static String fold(String name) {
+			StringBuilder sb = new StringBuilder(name.length());
+			for (int i = 0; i < name.length(); ++i) {
+				char c = name.charAt(i);
+				if (c != '_') {
+					sb.append(Character.toUpperCase(c));
+				}
+			}
+			return sb.toString();
+		}
+
+		private static int mix(int hash) {
+			return hash ^ (hash >>> 16);
+		}
+
+		private int hash(CharSequence name) {
+			int hash = 0;
+			for (int i = 0, n = name.length(); i < n; ++i) {
+				char c = name.charAt(i);
+				if (folded) {
+					if (c == '_') {
+						continue;
+					}
+					c = Character.toUpperCase(c);
+				}
+				hash = 31 * hash + c;
+			}
+			return mix(hash);
+		}
+
+		private int hash(char[] chars, int offset, int length) {
+			int hash = 0;
+			for (int i = offset, end = offset + length; i < end; ++i) {
+				char c = chars[i];
+				if (folded) {
+					if (c == '_') {
+						continue;
+					}
+					c = Character.toUpperCase(c);
+				}
+				hash = 31 * hash + c;
+			}
+			return mix(hash);
+		}
+
+		private int hash(byte[] bytes, int offset, int length) {
+			int hash = 0;
+			for (int i = offset, end = offset + length; i < end; ++i) {
+				char c = (char) (bytes[i] & 0xFF);
+				if (folded) {
+					if (c == '_') {
+						continue;
+					}
+					c = Character.toUpperCase(c);
+				}
+				hash = 31 * hash + c;
+			}
+			return mix(hash);
+		}
+
+		private boolean matches(String key, CharSequence name) {
+			int k = 0;
+			for (int i = 0, n = name.length(); i < n; ++i) {
+				char c = name.charAt(i);
+				if (folded) {
+					if (c == '_') {
+						continue;
+					}
+					c = Character.toUpperCase(c);
+				}
+				if (k == key.length() || key.charAt(k++) != c) {
+					return false;
+				}
+			}
+			return k == key.length();
+		}
+
+		private boolean matches(String key, char[] chars, int offset, int length) {
+			int k = 0;
+			for (int i = offset, end = offset + length; i < end; ++i) {
+				char c = chars[i];
+				if (folded) {
+					if (c == '_') {
+						continue;
+					}
+					c = Character.toUpperCase(c);
+				}
+				if (k == key.length() || key.charAt(k++) != c) {
+					return false;
+				}
+			}
+			return k == key.length();
+		}
+
+		private boolean matches(String key, byte[] bytes, int offset, int length) {
+			int k = 0;
+			for (int i = offset, end = offset + length; i < end; ++i) {
+				char c = (char) (bytes[i] & 0xFF);
+				if (folded) {
+					if (c == '_') {
+						continue;
+					}
+					c = Character.toUpperCase(c);
+				}
+				if (k == key.length() || key.charAt(k++) != c) {
+					return false;
+				}
+			}
+			return k == key.length();
+		}
+
+		@SuppressWarnings("unchecked")
+		E get(CharSequence name) {
+			int hash = hash(name);
+			for (int slot = hash & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+				if (hashes[slot] == hash && matches(keys[slot], name)) {
+					return (E) values[slot];
+				}
+			}
+			return null;
+		}
+
+		@SuppressWarnings("unchecked")
+		E get(char[] chars, int offset, int length) {
+			int hash = hash(chars, offset, length);
+			for (int slot = hash & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+				if (hashes[slot] == hash && matches(keys[slot], chars, offset, length)) {
+					return (E) values[slot];
+				}
+			}
+			return null;
+		}
+
+		@SuppressWarnings("unchecked")
+		E get(byte[] bytes, int offset, int length) {
+			int hash = hash(bytes, offset, length);
+			for (int slot = hash & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+				if (hashes[slot] == hash && matches(keys[slot], bytes, offset, length)) {
+					return (E) values[slot];
+				}
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Holder of message templates, compiled on first use.
+	 * 
+	 * `SYNONYM_CONFLICT` only formats what follows `SYNONYM_ALREADY_EXISTS`.
+	 */
+	private static final class Templates {
+		private static final MessageTemplate SYNONYM_CONFLICT = Messages.template("EnumWrapper.SYNONYM_CONFLICT");
+	}
 }
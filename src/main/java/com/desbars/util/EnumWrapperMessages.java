@@ -0,0 +1,20 @@
+package com.desbars.util;
+
+/**
+ * Holder of the public message constants of `EnumWrapper`.
+ *
+ * `EnumWrapper` inherits these constants, so `EnumWrapper.SYNONYM_ALREADY_EXISTS`
+ * still compiles and links as before. An interface is not initialized with the
+ * classes that implement it, only when one of its fields is first read, so
+ * wrapping an enum does not load `Messages.properties`.
+ *
+ * @author Darren
+ */
+public interface EnumWrapperMessages {
+
+	/**
+	 * The start of the message of the exception thrown by
+	 * `EnumWrapper.setSynonym`.
+	 */
+	public static final String SYNONYM_ALREADY_EXISTS = Messages.get("EnumWrapper.SYNONYM_ALREADY_EXISTS");
+}
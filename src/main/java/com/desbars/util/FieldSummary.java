@@ -0,0 +1,145 @@
+package com.desbars.util;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+/**
+ * A precompiled template that summarizes objects of one class using a fixed
+ * list of fields.
+ * 
+ * Fields are looked up once, when the template is created, and read through
+ * cached `MethodHandle` getters. Fields that are missing or not accessible are
+ * resolved to the name of the exception the lookup produced, so summarizing an
+ * object never performs reflection or creates exceptions.
+ * 
+ * The output is the same as `ReflectionUtil.getFieldSummary`. Templates are
+ * obtained through `ReflectionUtil.summaryTemplate`.
+ * 
+ * @author Darren
+ */
+public final class FieldSummary {
+
+	private static final String BULLET = "  - ";
+	private static final String ENDL = System.lineSeparator();
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private final Class<?> type;
+
+	private final String header;
+
+	/**
+	 * The `"  - [field]: "` prefix of each line.
+	 */
+	private final String[] prefixes;
+
+	/**
+	 * Getter of type `(Object)Object` for each field, or `null` where the field
+	 * could not be resolved.
+	 */
+	private final MethodHandle[] getters;
+
+	/**
+	 * What to show in place of the value of each unresolved field.
+	 */
+	private final String[] failures;
+
+	FieldSummary(Class<?> type, List<String> fields) {
+		this.type = type;
+		this.header = type.getSimpleName() + '\n';
+		this.prefixes = new String[fields.size()];
+		this.getters = new MethodHandle[fields.size()];
+		this.failures = new String[fields.size()];
+
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+		for (int i = 0; i < fields.size(); ++i) {
+			String fieldName = fields.get(i);
+			prefixes[i] = BULLET + fieldName + ": ";
+			try {
+				Field field = type.getDeclaredField(fieldName);
+				MethodHandle getter = lookup.unreflectGetter(field);
+				if (Modifier.isStatic(field.getModifiers())) {
+					// Ignore the object, so static fields are read like the others
+					getter = MethodHandles.dropArguments(getter, 0, Object.class);
+				}
+				getters[i] = getter.asType(GETTER_TYPE);
+			} catch (Exception e) {
+				failures[i] = e.getClass().getSimpleName();
+			}
+		}
+	}
+
+	/**
+	 * @return the class whose objects this template summarizes
+	 */
+	public Class<?> getType() {
+		return type;
+	}
+
+	/**
+	 * Write a summary of `object` into `out`.
+	 * 
+	 * @param object an instance of `getType()`
+	 * @param out    the builder to append to
+	 * @return `out`
+	 * @throws ClassCastException if `object` is not an instance of `getType()`
+	 */
+	public StringBuilder appendTo(Object object, StringBuilder out) {
+		Object owner = type.cast(object);
+		out.append(header);
+		for (int i = 0; i < prefixes.length; ++i) {
+			out.append(prefixes[i]).append(getValue(i, owner)).append(ENDL);
+		}
+		return out;
+	}
+
+	/**
+	 * Write a summary of `object` into `out`.
+	 * 
+	 * @param object an instance of `getType()`
+	 * @param out    the destination to append to
+	 * @return `out`
+	 * @throws IOException        if `out` fails to append
+	 * @throws ClassCastException if `object` is not an instance of `getType()`
+	 */
+	public <A extends Appendable> A appendTo(Object object, A out) throws IOException {
+		Object owner = type.cast(object);
+		out.append(header);
+		for (int i = 0; i < prefixes.length; ++i) {
+			out.append(prefixes[i]).append(String.valueOf(getValue(i, owner))).append(ENDL);
+		}
+		return out;
+	}
+
+	/**
+	 * Provide a string summary of `object`.
+	 * 
+	 * @param object an instance of `getType()`
+	 * @return the summary
+	 * @throws ClassCastException if `object` is not an instance of `getType()`
+	 */
+	public String summarize(Object object) {
+		return appendTo(object, new StringBuilder()).toString();
+	}
+
+	private Object getValue(int index, Object owner) {
+		MethodHandle getter = getters[index];
+		if (getter == null) {
+			return failures[index];
+		}
+
+		try {
+			return (Object) getter.invokeExact(owner);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			// Field getters do not throw checked exceptions
+			throw new IllegalStateException(e);
+		}
+	}
+}
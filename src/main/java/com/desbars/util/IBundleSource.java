@@ -0,0 +1,51 @@
+package com.desbars.util;
+
+import java.util.Locale;
+import java.util.MissingResourceException;
+
+/**
+ * A source of bundle properties for `ResourceBundleWrapper`.
+ * 
+ * @author Darren
+ *
+ */
+public interface IBundleSource {
+
+	/**
+	 * Load all properties of a bundle for a locale.
+	 * 
+	 * The locale's whole fallback chain is resolved here and flattened into the
+	 * returned table, so that looking up a key costs the same however deep the
+	 * chain is.
+	 * 
+	 * This is called again for each `reload` or after each `reset`, and must read
+	 * the bundle afresh rather than returning a cached copy.
+	 * 
+	 * @param bundleName the bundle name, e.g. `"my.package.Thing"`
+	 * @param locale     the locale to load the bundle for
+	 * @return the loaded properties
+	 * @throws MissingResourceException if the bundle cannot be loaded
+	 */
+	BundleTable load(String bundleName, Locale locale) throws MissingResourceException;
+
+	/**
+	 * The default source, which loads bundles through `ResourceBundle`.
+	 * 
+	 * @return a source that supports every format `ResourceBundle` supports
+	 */
+	static IBundleSource resourceBundles() {
+		return ResourceBundleSource.INSTANCE;
+	}
+
+	/**
+	 * A fast source for `.properties` files.
+	 * 
+	 * Keys and values are parsed directly from the bytes of the files.
+	 * 
+	 * @return a source for `.properties` files
+	 * @see PropertiesFileSource
+	 */
+	static IBundleSource propertiesFiles() {
+		return PropertiesFileSource.INSTANCE;
+	}
+}
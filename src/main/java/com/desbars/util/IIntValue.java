@@ -0,0 +1,17 @@
+package com.desbars.util;
+
+/**
+ * A primitive `int` specialization of `IValue`.
+ * 
+ * `getAsInt` obtains the encapsulated value without boxing.
+ * 
+ * @author Darren
+ *
+ */
+public interface IIntValue extends IValue<Integer> {
+	int getAsInt();
+
+	default Integer get() {
+		return getAsInt();
+	}
+}
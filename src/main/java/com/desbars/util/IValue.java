@@ -1,5 +1,13 @@
 package com.desbars.util;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
 /**
  * A generic interface for obtained encapsulated values.
  * 
@@ -11,4 +19,76 @@ package com.desbars.util;
  */
 public interface IValue<E> {
 	E get();
+
+	/**
+	 * Obtain the value without blocking the calling thread.
+	 *
+	 * By default, `get` runs on the common fork-join pool. Implementations may
+	 * return an already completed stage when the value is at hand.
+	 *
+	 * @return a stage completed with the value, or exceptionally with a
+	 *         `CompletionException` caused by what `get` threw
+	 */
+	default CompletionStage<E> getAsync() {
+		return CompletableFuture.supplyAsync(this::get);
+	}
+
+	/**
+	 * Obtain the value without blocking the calling thread, running `get` on
+	 * `executor` if it needs to run at all.
+	 *
+	 * @param executor
+	 * @return a stage completed with the value, or exceptionally with a
+	 *         `CompletionException` caused by what `get` threw
+	 */
+	default CompletionStage<E> getAsync(Executor executor) {
+		return CompletableFuture.supplyAsync(this::get, executor);
+	}
+
+	/**
+	 * Derive a value from this one.
+	 *
+	 * The result of `mapper` is memoized, and only computed again once this value
+	 * changes, such as when a `ResourceBundleWrapper` reload changes the key it
+	 * is read from.
+	 *
+	 * @param mapper
+	 * @return the derived value
+	 */
+	@SuppressWarnings("unchecked")
+	default <R> IValue<R> map(Function<? super E, ? extends R> mapper) {
+		return new DerivedValue<>(new IValue<?>[] { this }, values -> mapper.apply((E) values[0]));
+	}
+
+	/**
+	 * Derive a value from two others.
+	 *
+	 * The result of `combiner` is memoized, and only computed again once `a` or
+	 * `b` changes.
+	 *
+	 * @param a
+	 * @param b
+	 * @param combiner
+	 * @return the derived value
+	 */
+	@SuppressWarnings("unchecked")
+	static <A, B, R> IValue<R> combine(IValue<A> a, IValue<B> b,
+			BiFunction<? super A, ? super B, ? extends R> combiner) {
+		return new DerivedValue<>(new IValue<?>[] { a, b }, values -> combiner.apply((A) values[0], (B) values[1]));
+	}
+
+	/**
+	 * Derive a value from any number of others.
+	 *
+	 * The result of `combiner` is memoized, and only computed again once one of
+	 * `values` changes.
+	 *
+	 * @param values
+	 * @param combiner receives the current values, in the same order
+	 * @return the derived value
+	 */
+	static <R> IValue<R> combine(List<? extends IValue<?>> values,
+			Function<? super List<Object>, ? extends R> combiner) {
+		return new DerivedValue<>(values.toArray(new IValue<?>[0]), args -> combiner.apply(Arrays.asList(args)));
+	}
 }
@@ -0,0 +1,18 @@
+package com.desbars.util;
+
+/**
+ * A value that tells when it changes, so that values derived from it can be
+ * memoized.
+ * 
+ * @author Darren
+ * @see DerivedValue
+ */
+interface IVersioned {
+	/**
+	 * Resolve the value if needed, without throwing.
+	 * 
+	 * @return a token that stays the same instance for as long as the value does
+	 *         not change
+	 */
+	Object getVersion();
+}
@@ -0,0 +1,33 @@
+package com.desbars.util;
+
+/**
+ * A message from the `Messages.properties` file, resolved on demand.
+ *
+ * Creating one does not initialize `Messages`, so internal message constants
+ * cost nothing at class initialization, and `Messages.properties` is only
+ * loaded when the first message is actually needed, typically to report an
+ * error. Each `get` then costs a single table lookup.
+ *
+ * This is a plain class rather than a lambda, so that a class defining these
+ * constants does not link a lambda call site when it is initialized.
+ *
+ * @author Darren
+ */
+final class LazyMessage implements IValue<String> {
+
+	private final String key;
+
+	/**
+	 * @param key the key in `Messages.properties`
+	 */
+	LazyMessage(String key) {
+		this.key = key;
+	}
+
+	/**
+	 * @return the message, as returned by `Messages.get(key)`
+	 */
+	public String get() {
+		return Messages.get(key);
+	}
+}
@@ -0,0 +1,396 @@
+package com.desbars.util;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Opt-in instrumentation of `ResourceBundleWrapper` and `EnumWrapper` lookups.
+ *
+ * While enabled, counts the hits, misses and parse failures of each bundle key
+ * and enum type, and the loads, load time, reloads and resets of each bundle.
+ * Counters are striped `LongAdder`s, so threads reading the same key do not
+ * contend. While disabled, which is the default, a lookup only pays for
+ * reading one flag.
+ *
+ * Independently of this flag, bundle loads and failed `valueOf` calls are
+ * reported as JFR events, which cost nothing unless a recording enables them:
+ * `com.desbars.util.BundleLoad` and `com.desbars.util.EnumLookupFailed`. Until
+ * JFR is started, the event classes are not even loaded, since registering them
+ * with JFR would add to the first bundle load.
+ *
+ * @author Darren
+ */
+public final class LookupMetrics {
+
+	/**
+	 * Read on every lookup; a plain load on common hardware.
+	 */
+	static volatile boolean enabled;
+
+	private static final Map<String, BundleCounters> bundles = new ConcurrentHashMap<>();
+
+	private static final Map<String, KeyCounters> enums = new ConcurrentHashMap<>();
+
+	/**
+	 * Whether the JFR module is present; it may be left out of custom runtimes.
+	 */
+	private static final boolean JFR_AVAILABLE = ModuleLayer.boot().findModule("jdk.jfr").isPresent(); //$NON-NLS-1$
+
+	private LookupMetrics() {
+	}
+
+	/**
+	 * Start or stop counting lookups.
+	 *
+	 * Counts are kept when counting stops, and continue from there if it starts
+	 * again.
+	 *
+	 * @param enabled
+	 */
+	public static void setEnabled(boolean enabled) {
+		LookupMetrics.enabled = enabled;
+	}
+
+	/**
+	 * @return whether lookups are being counted
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Set every count back to zero.
+	 */
+	public static void clear() {
+		bundles.values().forEach(BundleCounters::clear);
+		enums.values().forEach(KeyCounters::clear);
+	}
+
+	/**
+	 * Take a snapshot of the counts of each bundle that has been used while
+	 * enabled.
+	 *
+	 * Counts are read one at a time while lookups go on, so the snapshot is not
+	 * atomic across counters.
+	 *
+	 * @return the counts by bundle, such as `my.package.Thing` or
+	 *         `my.package.Thing[fr-CA]`, sorted by name
+	 */
+	public static Map<String, BundleCounts> snapshotBundles() {
+		Map<String, BundleCounts> snapshot = new TreeMap<>();
+		bundles.forEach((bundleId, counters) -> snapshot.put(bundleId, counters.snapshot()));
+		return snapshot;
+	}
+
+	/**
+	 * Take a snapshot of the `valueOf` counts of each enum type that has been
+	 * used while enabled.
+	 *
+	 * @return the counts by enum class name, sorted by name
+	 */
+	public static Map<String, Counts> snapshotEnums() {
+		Map<String, Counts> snapshot = new TreeMap<>();
+		enums.forEach((enumType, counters) -> snapshot.put(enumType, counters.snapshot()));
+		return snapshot;
+	}
+
+	static BundleCounters forBundle(String bundleId) {
+		return bundles.computeIfAbsent(bundleId, id -> new BundleCounters());
+	}
+
+	static KeyCounters forEnum(Class<?> enumType) {
+		return enums.computeIfAbsent(enumType.getName(), name -> new KeyCounters());
+	}
+
+	/**
+	 * Record a bundle load, in both the counters and JFR.
+	 *
+	 * @param bundleId
+	 * @param reload   whether the bundle replaced a loaded one
+	 * @param start    `System.nanoTime` when the load started
+	 * @param bundle   the loaded bundle, or `null` if it failed to load
+	 */
+	static void bundleLoaded(String bundleId, boolean reload, long start, BundleTable bundle) {
+		long nanos = System.nanoTime() - start;
+		if (enabled) {
+			forBundle(bundleId).loaded(reload, nanos, bundle != null);
+		}
+		if (JFR_AVAILABLE) {
+			Events.bundleLoaded(bundleId, reload, nanos, bundle);
+		}
+	}
+
+	/**
+	 * Record a name that `valueOf` could not resolve, in both the counters and
+	 * JFR.
+	 *
+	 * @param counters the enum type's counters, or `null` if they are not used
+	 * @param enumType
+	 * @param name
+	 */
+	static void enumLookupFailed(KeyCounters counters, Class<?> enumType, CharSequence name) {
+		if (counters != null) {
+			counters.misses.increment();
+		}
+		if (JFR_AVAILABLE) {
+			Events.enumLookupFailed(enumType, name);
+		}
+	}
+
+	/**
+	 * Live counters of one bundle.
+	 */
+	static final class BundleCounters {
+		private final LongAdder loads = new LongAdder();
+		private final LongAdder loadFailures = new LongAdder();
+		private final LongAdder loadNanos = new LongAdder();
+		private final LongAdder reloads = new LongAdder();
+		private final LongAdder resets = new LongAdder();
+		private final Map<String, KeyCounters> keys = new ConcurrentHashMap<>();
+
+		KeyCounters forKey(String key) {
+			return keys.computeIfAbsent(key, k -> new KeyCounters());
+		}
+
+		void loaded(boolean reload, long nanos, boolean success) {
+			(reload ? reloads : loads).increment();
+			if (!success) {
+				loadFailures.increment();
+			}
+			loadNanos.add(nanos);
+		}
+
+		void reset() {
+			resets.increment();
+		}
+
+		private void clear() {
+			loads.reset();
+			loadFailures.reset();
+			loadNanos.reset();
+			reloads.reset();
+			resets.reset();
+			keys.values().forEach(KeyCounters::clear);
+		}
+
+		private BundleCounts snapshot() {
+			Map<String, Counts> keys = new TreeMap<>();
+			this.keys.forEach((key, counters) -> keys.put(key, counters.snapshot()));
+			return new BundleCounts(loads.sum(), loadFailures.sum(), loadNanos.sum(), reloads.sum(), resets.sum(),
+					keys);
+		}
+	}
+
+	/**
+	 * Live counters of one key or enum type.
+	 */
+	static final class KeyCounters {
+		final LongAdder hits = new LongAdder();
+		final LongAdder misses = new LongAdder();
+		final LongAdder parseFailures = new LongAdder();
+
+		private void clear() {
+			hits.reset();
+			misses.reset();
+			parseFailures.reset();
+		}
+
+		private Counts snapshot() {
+			return new Counts(hits.sum(), misses.sum(), parseFailures.sum());
+		}
+	}
+
+	/**
+	 * The counts of one bundle key or enum type at the time of a snapshot.
+	 */
+	public static final class Counts {
+		private final long hits;
+		private final long misses;
+		private final long parseFailures;
+
+		private Counts(long hits, long misses, long parseFailures) {
+			this.hits = hits;
+			this.misses = misses;
+			this.parseFailures = parseFailures;
+		}
+
+		/**
+		 * @return the number of lookups that found a value
+		 */
+		public long getHits() {
+			return hits;
+		}
+
+		/**
+		 * @return the number of lookups that found no value, because the key, the
+		 *         bundle or the enum name is missing
+		 */
+		public long getMisses() {
+			return misses;
+		}
+
+		/**
+		 * @return the number of lookups that found a value which could not be
+		 *         parsed; always `0` for enum types
+		 */
+		public long getParseFailures() {
+			return parseFailures;
+		}
+
+		@Override
+		public String toString() {
+			return "hits=" + hits + ", misses=" + misses + ", parseFailures=" + parseFailures; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+	}
+
+	/**
+	 * The counts of one bundle at the time of a snapshot.
+	 */
+	public static final class BundleCounts {
+		private final long loads;
+		private final long loadFailures;
+		private final long loadNanos;
+		private final long reloads;
+		private final long resets;
+		private final Map<String, Counts> keys;
+
+		private BundleCounts(long loads, long loadFailures, long loadNanos, long reloads, long resets,
+				Map<String, Counts> keys) {
+			this.loads = loads;
+			this.loadFailures = loadFailures;
+			this.loadNanos = loadNanos;
+			this.reloads = reloads;
+			this.resets = resets;
+			this.keys = Collections.unmodifiableMap(keys);
+		}
+
+		/**
+		 * @return the number of times the bundle was loaded on first use, or after
+		 *         a reset
+		 */
+		public long getLoads() {
+			return loads;
+		}
+
+		/**
+		 * @return the number of loads and reloads that failed
+		 */
+		public long getLoadFailures() {
+			return loadFailures;
+		}
+
+		/**
+		 * @return the time spent in loads and reloads, including failed ones
+		 */
+		public Duration getLoadTime() {
+			return Duration.ofNanos(loadNanos);
+		}
+
+		/**
+		 * @return the number of times the bundle was reloaded
+		 */
+		public long getReloads() {
+			return reloads;
+		}
+
+		/**
+		 * @return the number of times the bundle was reset
+		 */
+		public long getResets() {
+			return resets;
+		}
+
+		/**
+		 * @return the counts of each key looked up, sorted by key
+		 */
+		public Map<String, Counts> getKeys() {
+			return keys;
+		}
+
+		@Override
+		public String toString() {
+			return "loads=" + loads + ", loadFailures=" + loadFailures + ", loadTime=" + getLoadTime() //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ ", reloads=" + reloads + ", resets=" + resets + ", keys=" + keys; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+	}
+
+	/**
+	 * The JFR events, kept apart so that they are only loaded when JFR is
+	 * available.
+	 */
+	private static final class Events {
+
+		static void bundleLoaded(String bundleId, boolean reload, long nanos, BundleTable bundle) {
+			if (!FlightRecorder.isInitialized()) {
+				return;
+			}
+			BundleLoadEvent event = new BundleLoadEvent();
+			if (event.shouldCommit()) {
+				event.bundle = bundleId;
+				event.reload = reload;
+				event.success = bundle != null;
+				event.keys = bundle != null ? bundle.size() : 0;
+				event.loadTime = nanos;
+				event.commit();
+			}
+		}
+
+		static void enumLookupFailed(Class<?> enumType, CharSequence name) {
+			if (!FlightRecorder.isInitialized()) {
+				return;
+			}
+			EnumLookupFailedEvent event = new EnumLookupFailedEvent();
+			if (event.shouldCommit()) {
+				event.enumType = enumType;
+				event.name = name.toString();
+				event.commit();
+			}
+		}
+	}
+
+	@Name("com.desbars.util.BundleLoad")
+	@Label("Bundle Load")
+	@Category("des.utils")
+	@Description("A ResourceBundleWrapper bundle was loaded or reloaded")
+	static final class BundleLoadEvent extends Event {
+		@Label("Bundle")
+		String bundle;
+
+		@Label("Reload")
+		boolean reload;
+
+		@Label("Success")
+		boolean success;
+
+		@Label("Keys")
+		int keys;
+
+		@Label("Load Time")
+		@Timespan
+		long loadTime;
+	}
+
+	@Name("com.desbars.util.EnumLookupFailed")
+	@Label("Enum Lookup Failed")
+	@Category("des.utils")
+	@Description("EnumWrapper.valueOf found no constant for a name")
+	static final class EnumLookupFailedEvent extends Event {
+		@Label("Enum Type")
+		Class<?> enumType;
+
+		@Label("Name")
+		String name;
+	}
+}
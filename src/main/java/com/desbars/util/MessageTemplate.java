@@ -0,0 +1,202 @@
+package com.desbars.util;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A message pattern, compiled once, that formats positional arguments.
+ *
+ * Patterns use the `MessageFormat` syntax for arguments and quoting: `{0}` is
+ * replaced by the first argument, text between single quotes is taken
+ * literally, and `''` is a single quote. Arguments are written with
+ * `String.valueOf`; format types such as `{0,number}` are not supported. As
+ * with `MessageFormat`, an argument that is not supplied is written as its
+ * placeholder.
+ *
+ * Unlike `MessageFormat` or `String.format`, the pattern is parsed only once,
+ * and formatting appends straight into the caller's `StringBuilder` or
+ * `Appendable`. Templates are immutable and safe to share between threads.
+ *
+ * @author Darren
+ */
+public final class MessageTemplate {
+
+	/**
+	 * The literal text around each argument; one more than `arguments`.
+	 */
+	private final String[] literals;
+
+	/**
+	 * The index of each argument, in the order they appear.
+	 */
+	private final int[] arguments;
+
+	private final int literalLength;
+
+	private MessageTemplate(List<String> literals, List<Integer> arguments) {
+		this.literals = literals.toArray(new String[0]);
+		this.arguments = new int[arguments.size()];
+		for (int i = 0; i < this.arguments.length; ++i) {
+			this.arguments[i] = arguments.get(i);
+		}
+
+		int literalLength = 0;
+		for (String literal : this.literals) {
+			literalLength += literal.length();
+		}
+		this.literalLength = literalLength;
+	}
+
+	/**
+	 * Compile a pattern such as `"Synonym already exists: {0} -> {1}"`.
+	 *
+	 * @param pattern
+	 * @return the compiled template
+	 * @throws IllegalArgumentException if the pattern has an unmatched `{`, or an
+	 *                                  argument that is not a non-negative integer
+	 */
+	public static MessageTemplate compile(String pattern) {
+		List<String> literals = new ArrayList<>();
+		List<Integer> arguments = new ArrayList<>();
+
+		StringBuilder literal = new StringBuilder(pattern.length());
+		boolean quoted = false;
+		for (int i = 0; i < pattern.length(); ++i) {
+			char c = pattern.charAt(i);
+			if (c == '\'') {
+				if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '\'') {
+					literal.append('\'');
+					++i;
+				} else {
+					quoted = !quoted;
+				}
+			} else if (c == '{' && !quoted) {
+				int end = pattern.indexOf('}', i + 1);
+				if (end < 0) {
+					throw new IllegalArgumentException(UNMATCHED_BRACE.get() + pattern);
+				}
+				arguments.add(parseArgument(pattern, i + 1, end));
+				literals.add(literal.toString());
+				literal.setLength(0);
+				i = end;
+			} else {
+				literal.append(c);
+			}
+		}
+		literals.add(literal.toString());
+
+		return new MessageTemplate(literals, arguments);
+	}
+
+	private static int parseArgument(String pattern, int start, int end) {
+		String argument = pattern.substring(start, end);
+		for (int i = 0; i < argument.length(); ++i) {
+			if (argument.charAt(i) < '0' || argument.charAt(i) > '9') {
+				throw new IllegalArgumentException(INVALID_ARGUMENT.get() + pattern);
+			}
+		}
+		try {
+			return Integer.parseInt(argument);
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException(INVALID_ARGUMENT.get() + pattern, e);
+		}
+	}
+
+	/**
+	 * @return the number of arguments the pattern refers to, i.e. one more than
+	 *         its highest argument index
+	 */
+	public int getArgumentCount() {
+		int count = 0;
+		for (int argument : arguments) {
+			count = Math.max(count, argument + 1);
+		}
+		return count;
+	}
+
+	/**
+	 * @param args
+	 * @return the formatted message
+	 */
+	public String format(Object... args) {
+		return appendTo(new StringBuilder(literalLength + 16 * arguments.length), args).toString();
+	}
+
+	/**
+	 * Append the message formatted with one argument, without allocating an
+	 * argument array.
+	 *
+	 * @param sb
+	 * @param arg0
+	 * @return `sb`
+	 */
+	public StringBuilder appendTo(StringBuilder sb, Object arg0) {
+		return append(sb, 1, arg0, null, null);
+	}
+
+	/**
+	 * Append the message formatted with two arguments, without allocating an
+	 * argument array.
+	 *
+	 * @param sb
+	 * @param arg0
+	 * @param arg1
+	 * @return `sb`
+	 */
+	public StringBuilder appendTo(StringBuilder sb, Object arg0, Object arg1) {
+		return append(sb, 2, arg0, arg1, null);
+	}
+
+	/**
+	 * Append the formatted message.
+	 *
+	 * @param sb
+	 * @param args
+	 * @return `sb`
+	 */
+	public StringBuilder appendTo(StringBuilder sb, Object... args) {
+		return append(sb, args.length, null, null, args);
+	}
+
+	/**
+	 * Append the formatted message to any `Appendable`, such as a `Writer`.
+	 *
+	 * @param out
+	 * @param args
+	 * @return `out`
+	 * @throws IOException if `out` throws one
+	 */
+	public <A extends Appendable> A appendTo(A out, Object... args) throws IOException {
+		out.append(literals[0]);
+		for (int i = 0; i < arguments.length; ++i) {
+			int index = arguments[i];
+			if (index < args.length) {
+				out.append(String.valueOf(args[index]));
+			} else {
+				out.append('{').append(Integer.toString(index)).append('}');
+			}
+			out.append(literals[i + 1]);
+		}
+		return out;
+	}
+
+	private StringBuilder append(StringBuilder sb, int count, Object arg0, Object arg1, Object[] args) {
+		sb.append(literals[0]);
+		for (int i = 0; i < arguments.length; ++i) {
+			int index = arguments[i];
+			if (index >= count) {
+				sb.append('{').append(index).append('}');
+			} else if (args != null) {
+				sb.append(args[index]);
+			} else {
+				sb.append(index == 0 ? arg0 : arg1);
+			}
+			sb.append(literals[i + 1]);
+		}
+		return sb;
+	}
+
+	static final IValue<String> UNMATCHED_BRACE = new LazyMessage("MessageTemplate.UNMATCHED_BRACE");
+	static final IValue<String> INVALID_ARGUMENT = new LazyMessage("MessageTemplate.INVALID_ARGUMENT");
+}
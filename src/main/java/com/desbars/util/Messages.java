@@ -20,9 +20,9 @@ class Messages {
 		RESOURCE_BUNDLE = ResourceBundleWrapper.forClass(Messages.class);
 	}
 
-	public static String TYPE_CANNOT_BE_NULL = Messages.get("TYPE_CANNOT_BE_NULL");
-	public static String DATE_CANNOT_BE_NULL = Messages.get("DATE_CANNOT_BE_NULL");
-	public static String INVALID_ENUM = Messages.get("INVALID_ENUM");
+	static final IValue<String> TYPE_CANNOT_BE_NULL = new LazyMessage("TYPE_CANNOT_BE_NULL");
+	static final IValue<String> DATE_CANNOT_BE_NULL = new LazyMessage("DATE_CANNOT_BE_NULL");
+	static final IValue<String> INVALID_ENUM = new LazyMessage("INVALID_ENUM");
 	
 
 	private Messages() {
@@ -46,4 +46,19 @@ class Messages {
 		return value;
 	}
 
+	/**
+	 * Obtain a message by `key` from the `Messages.properties` file, compiled as a
+	 * `MessageTemplate`.
+	 * 
+	 * Compiling is not cached, so keep the result, typically in a constant.
+	 * 
+	 * @param key
+	 * @return the compiled message, or a template of the placeholder returned by
+	 *         `get` if it is not defined
+	 * @throws IllegalArgumentException if the message is not a valid template
+	 */
+	public static MessageTemplate template(String key) {
+		return MessageTemplate.compile(get(key));
+	}
+
 }
@@ -0,0 +1,202 @@
+package com.desbars.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * A reusable, typed invoker for a reflected `Method`.
+ * 
+ * The method is converted once into a `MethodHandle` adapted to a fixed-arity
+ * `Object` signature. The fixed-arity `invoke` methods call it with
+ * `invokeExact`, so no argument array is built and no reflective access check
+ * is repeated. The handle is held in an instance field, so each call still
+ * goes through it; it is not inlined like a direct call unless the invoker
+ * itself is a constant to the JIT. For direct-call speed on a hot path, keep a
+ * handle from `ReflectionUtil.handle` in a `static final` field instead.
+ * 
+ * Methods that are not otherwise accessible, such as private ones, are looked
+ * up with private access to their declaring class. The `Method` passed in is
+ * left unchanged.
+ * 
+ * Unlike `ReflectionUtil.tryMethod`, failures are never swallowed: exceptions
+ * thrown by the method propagate unchanged (checked ones wrapped in an
+ * `InvocationException`), and mismatched owners or arguments fail with the
+ * usual `ClassCastException` or `NullPointerException`.
+ * 
+ * Instances are obtained through `ReflectionUtil.invoker`.
+ * 
+ * @author Darren
+ *
+ * @param <R> the (boxed) return type of the method
+ */
+public final class MethodInvoker<R> {
+
+	private final Method method;
+
+	private final int arity;
+
+	/**
+	 * Type `(Object owner, Object arg0, ...)Object`. Static methods ignore
+	 * `owner`.
+	 */
+	private final MethodHandle handle;
+
+	/**
+	 * Type `(Object owner, Object[] args)Object`.
+	 */
+	private final MethodHandle spreadHandle;
+
+	MethodInvoker(Method method) {
+		this.method = method;
+		this.arity = method.getParameterCount();
+
+		MethodHandle target = unreflect(method);
+		if (Modifier.isStatic(method.getModifiers())) {
+			target = MethodHandles.dropArguments(target, 0, Object.class);
+		}
+
+		this.handle = target.asType(MethodType.genericMethodType(arity + 1));
+		this.spreadHandle = handle.asSpreader(Object[].class, arity);
+	}
+
+	/**
+	 * @return a direct handle for `method`, with private access to its declaring
+	 *         class if needed
+	 * @throws IllegalArgumentException if the method is not accessible
+	 */
+	static MethodHandle unreflect(Method method) {
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+		try {
+			return lookup.unreflect(method);
+		} catch (IllegalAccessException e) {
+			// Fall through and try with private access to the declaring class
+		}
+
+		try {
+			// Unlike `setAccessible`, this does not change the caller's `Method`
+			return MethodHandles.privateLookupIn(method.getDeclaringClass(), lookup).unreflect(method);
+		} catch (IllegalAccessException | RuntimeException e) {
+			throw new IllegalArgumentException(ReflectionUtil.METHOD_NOT_ACCESSIBLE.get() + method, e);
+		}
+	}
+
+	/**
+	 * @return the method being invoked
+	 */
+	public Method getMethod() {
+		return method;
+	}
+
+	/**
+	 * Invoke a method that takes no arguments.
+	 * 
+	 * @param owner the instance that the method belongs to (ignored for statics)
+	 * @return the result of the method
+	 * @throws IllegalArgumentException if the method does not take 0 arguments
+	 * @throws InvocationException      if the method throws a checked exception
+	 */
+	@SuppressWarnings("unchecked")
+	public R invoke(Object owner) {
+		checkArity(0);
+		try {
+			Object result = (Object) handle.invokeExact(owner);
+			return (R) result;
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new InvocationException(method, e);
+		}
+	}
+
+	/**
+	 * Invoke a method that takes one argument.
+	 * 
+	 * @param owner the instance that the method belongs to (ignored for statics)
+	 * @param arg0
+	 * @return the result of the method
+	 * @throws IllegalArgumentException if the method does not take 1 argument
+	 * @throws InvocationException      if the method throws a checked exception
+	 */
+	@SuppressWarnings("unchecked")
+	public R invoke(Object owner, Object arg0) {
+		checkArity(1);
+		try {
+			Object result = (Object) handle.invokeExact(owner, arg0);
+			return (R) result;
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new InvocationException(method, e);
+		}
+	}
+
+	/**
+	 * Invoke a method that takes two arguments.
+	 * 
+	 * @param owner the instance that the method belongs to (ignored for statics)
+	 * @param arg0
+	 * @param arg1
+	 * @return the result of the method
+	 * @throws IllegalArgumentException if the method does not take 2 arguments
+	 * @throws InvocationException      if the method throws a checked exception
+	 */
+	@SuppressWarnings("unchecked")
+	public R invoke(Object owner, Object arg0, Object arg1) {
+		checkArity(2);
+		try {
+			Object result = (Object) handle.invokeExact(owner, arg0, arg1);
+			return (R) result;
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new InvocationException(method, e);
+		}
+	}
+
+	/**
+	 * Invoke a method with any number of arguments.
+	 * 
+	 * @param owner the instance that the method belongs to (ignored for statics)
+	 * @param args  the arguments to the method
+	 * @return the result of the method
+	 * @throws IllegalArgumentException if the number of `args` does not match
+	 * @throws InvocationException      if the method throws a checked exception
+	 */
+	@SuppressWarnings("unchecked")
+	public R invokeWithArguments(Object owner, Object... args) {
+		checkArity(args.length);
+		try {
+			Object result = (Object) spreadHandle.invokeExact(owner, args);
+			return (R) result;
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new InvocationException(method, e);
+		}
+	}
+
+	private void checkArity(int argumentCount) {
+		if (argumentCount != arity) {
+			throw new IllegalArgumentException(ReflectionUtil.WRONG_ARGUMENT_COUNT.get() + method);
+		}
+	}
+
+	/**
+	 * Thrown when an invoked method throws a checked exception.
+	 * 
+	 * The original exception is available as the `cause`.
+	 * 
+	 * @author Darren
+	 *
+	 */
+	public static class InvocationException extends RuntimeException {
+		private static final long serialVersionUID = 2896432364017150583L;
+
+		InvocationException(Method method, Throwable cause) {
+			super(ReflectionUtil.INVOCATION_FAILED.get() + method, cause);
+		}
+	}
+}
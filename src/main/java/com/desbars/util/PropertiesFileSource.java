@@ -0,0 +1,105 @@
+package com.desbars.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+
+/**
+ * An `IBundleSource` that reads `.properties` files directly.
+ * 
+ * Files are read whole into a heap buffer, and the bytes are handed to
+ * `PropertiesParser` without first being decoded into characters. Files are
+ * not memory-mapped: a mapping keeps its file open until the buffer is
+ * garbage collected, which prevents editing or deleting the file on Windows
+ * and gets in the way of `ResourceBundleWrapper.startReloading`.
+ * 
+ * The files of the locale's candidate chain, such as `Thing_fr_CA.properties`,
+ * `Thing_fr.properties` and `Thing.properties`, are merged into one table, the
+ * more specific files taking precedence. Unlike `ResourceBundle`, there is no
+ * further fallback to the default locale.
+ * 
+ * @author Darren
+ */
+final class PropertiesFileSource implements IBundleSource {
+
+	static final PropertiesFileSource INSTANCE = new PropertiesFileSource();
+
+	private PropertiesFileSource() {
+
+	}
+
+	private static final ResourceBundle.Control CONTROL = ResourceBundle.Control
+			.getControl(ResourceBundle.Control.FORMAT_PROPERTIES);
+
+	/**
+	 * @param bundleName
+	 * @param locale
+	 * @return the resource names of the `.properties` files that may hold the
+	 *         bundle for `locale`, most specific first
+	 */
+	static List<String> candidateResourceNames(String bundleName, Locale locale) {
+		List<Locale> candidates = CONTROL.getCandidateLocales(bundleName, locale);
+		String[] names = new String[candidates.size()];
+		for (int i = 0; i < names.length; ++i) {
+			names[i] = CONTROL.toResourceName(CONTROL.toBundleName(bundleName, candidates.get(i)), "properties"); //$NON-NLS-1$
+		}
+		return List.of(names);
+	}
+
+	@Override
+	public BundleTable load(String bundleName, Locale locale) throws MissingResourceException {
+		List<String> resourceNames = candidateResourceNames(bundleName, locale);
+		ClassLoader loader = PropertiesFileSource.class.getClassLoader();
+
+		Map<String, String> properties = null;
+		// Least specific first, so that more specific files override it
+		for (int i = resourceNames.size() - 1; i >= 0; --i) {
+			String resourceName = resourceNames.get(i);
+			URL url = loader.getResource(resourceName);
+			if (url == null) {
+				continue;
+			}
+
+			try {
+				Map<String, String> parsed = PropertiesParser.parse(read(url));
+				if (properties == null) {
+					properties = parsed;
+				} else {
+					properties.putAll(parsed);
+				}
+			} catch (IOException | URISyntaxException | IllegalArgumentException e) {
+				MissingResourceException missing = new MissingResourceException(resourceName, bundleName, ""); //$NON-NLS-1$
+				missing.initCause(e);
+				throw missing;
+			}
+		}
+
+		if (properties == null) {
+			throw new MissingResourceException(resourceNames.get(0), bundleName, ""); //$NON-NLS-1$
+		}
+		return BundleTable.of(properties);
+	}
+
+	private static ByteBuffer read(URL url) throws IOException, URISyntaxException {
+		if ("file".equals(url.getProtocol())) { //$NON-NLS-1$
+			// Closed before returning, so the file is never held open
+			return ByteBuffer.wrap(Files.readAllBytes(Paths.get(url.toURI())));
+		}
+
+		URLConnection connection = url.openConnection();
+		connection.setUseCaches(false);
+		try (InputStream in = connection.getInputStream()) {
+			return ByteBuffer.wrap(in.readAllBytes());
+		}
+	}
+}
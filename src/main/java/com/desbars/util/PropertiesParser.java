@@ -0,0 +1,292 @@
+package com.desbars.util;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A parser for the `.properties` file format that works directly on bytes.
+ *
+ * The format is the one read by `Properties.load`: comments, blank lines,
+ * `=`/`:`/whitespace separators, escapes (including `\\uXXXX`) and continuation
+ * lines are all supported. Like `PropertyResourceBundle`, the bytes are read as
+ * UTF-8 unless they are not valid UTF-8, in which case ISO-8859-1 is used.
+ *
+ * Since every character with a meaning in the format is ASCII, the structure is
+ * scanned byte by byte, and each key and value without escapes is decoded with
+ * a single bulk conversion.
+ *
+ * @author Darren
+ */
+final class PropertiesParser {
+
+	private final ByteBuffer in;
+	private final ByteBuffer view;
+	private final int limit;
+	private final Charset charset;
+
+	/**
+	 * Scratch space for decoding a run of bytes.
+	 */
+	private byte[] scratch = new byte[256];
+
+	/**
+	 * Builds keys and values that contain escapes or continuation lines.
+	 */
+	private final StringBuilder sb = new StringBuilder();
+
+	private int pos;
+
+	private PropertiesParser(ByteBuffer in, Charset charset) {
+		this.in = in;
+		this.view = in.duplicate();
+		this.pos = in.position();
+		this.limit = in.limit();
+		this.charset = charset;
+	}
+
+	/**
+	 * Parse the remaining bytes of `in` as a `.properties` file.
+	 *
+	 * `in` itself is not modified. Later definitions of a key replace earlier
+	 * ones.
+	 *
+	 * @param in
+	 * @return the properties, in no particular order
+	 * @throws IllegalArgumentException if the input contains a malformed `\\uXXXX`
+	 *                                  escape
+	 */
+	static Map<String, String> parse(ByteBuffer in) {
+		Charset charset = isUtf8(in) ? StandardCharsets.UTF_8 : StandardCharsets.ISO_8859_1;
+		return new PropertiesParser(in, charset).parse();
+	}
+
+	private static boolean isUtf8(ByteBuffer in) {
+		CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder() //
+				.onMalformedInput(CodingErrorAction.REPORT) //
+				.onUnmappableCharacter(CodingErrorAction.REPORT);
+		ByteBuffer bytes = in.duplicate();
+		CharBuffer chars = CharBuffer.allocate(1024);
+		while (true) {
+			CoderResult result = decoder.decode(bytes, chars, true);
+			if (result.isError()) {
+				return false;
+			}
+			if (result.isUnderflow()) {
+				return !decoder.flush(chars.clear()).isError();
+			}
+			chars.clear();
+		}
+	}
+
+	private Map<String, String> parse() {
+		Map<String, String> properties = new HashMap<>();
+
+		while (true) {
+			skipBlank();
+			if (pos >= limit) {
+				return properties;
+			}
+
+			byte b = in.get(pos);
+			if (b == '#' || b == '!') {
+				skipLine();
+				continue;
+			}
+
+			String key = readToken(true);
+			skipSpaces();
+			if (pos < limit && (in.get(pos) == '=' || in.get(pos) == ':')) {
+				++pos;
+				skipSpaces();
+			}
+			String value = readToken(false);
+
+			properties.put(key, value);
+		}
+	}
+
+	private static boolean isSpace(byte b) {
+		return b == ' ' || b == '\t' || b == '\f';
+	}
+
+	private static boolean isLineEnd(byte b) {
+		return b == '\n' || b == '\r';
+	}
+
+	/**
+	 * Skip whitespace and line terminators, i.e. any blank lines and the
+	 * indentation of the next line.
+	 */
+	private void skipBlank() {
+		while (pos < limit) {
+			byte b = in.get(pos);
+			if (!isSpace(b) && !isLineEnd(b)) {
+				return;
+			}
+			++pos;
+		}
+	}
+
+	private void skipLine() {
+		while (pos < limit && !isLineEnd(in.get(pos))) {
+			++pos;
+		}
+	}
+
+	/**
+	 * Skip whitespace within a logical line, following continuation lines.
+	 */
+	private void skipSpaces() {
+		while (pos < limit) {
+			byte b = in.get(pos);
+			if (isSpace(b)) {
+				++pos;
+			} else if (b == '\\' && pos + 1 < limit && isLineEnd(in.get(pos + 1))) {
+				++pos;
+				skipContinuation();
+			} else {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Skip the line terminator at `pos`, and the indentation of the next line.
+	 */
+	private void skipContinuation() {
+		if (in.get(pos) == '\r' && pos + 1 < limit && in.get(pos + 1) == '\n') {
+			++pos;
+		}
+		++pos;
+		while (pos < limit && isSpace(in.get(pos))) {
+			++pos;
+		}
+	}
+
+	/**
+	 * Read a key or a value, starting at `pos`.
+	 *
+	 * A key ends at an unescaped separator or whitespace; both end at the end of
+	 * the logical line.
+	 */
+	private String readToken(boolean isKey) {
+		int start = pos;
+		while (pos < limit) {
+			byte b = in.get(pos);
+			if (isLineEnd(b) || (isKey && isKeyEnd(b))) {
+				return decode(start, pos);
+			}
+			if (b == '\\') {
+				return readEscapedToken(start, isKey);
+			}
+			++pos;
+		}
+		return decode(start, pos);
+	}
+
+	private static boolean isKeyEnd(byte b) {
+		return b == '=' || b == ':' || isSpace(b);
+	}
+
+	/**
+	 * Continue reading a token from `pos`, which is at a backslash.
+	 */
+	private String readEscapedToken(int start, boolean isKey) {
+		sb.setLength(0);
+		int runStart = start;
+
+		while (pos < limit) {
+			byte b = in.get(pos);
+			if (isLineEnd(b) || (isKey && isKeyEnd(b))) {
+				break;
+			}
+			if (b != '\\') {
+				++pos;
+				continue;
+			}
+
+			sb.append(decode(runStart, pos));
+			++pos;
+			if (pos >= limit) {
+				// A trailing backslash at the end of the input is dropped
+				runStart = pos;
+				break;
+			}
+
+			byte escaped = in.get(pos);
+			if (isLineEnd(escaped)) {
+				skipContinuation();
+				runStart = pos;
+				continue;
+			}
+			if (escaped < 0) {
+				// A non-ASCII character is taken literally
+				runStart = pos;
+				continue;
+			}
+
+			++pos;
+			switch (escaped) {
+			case 't':
+				sb.append('\t');
+				break;
+			case 'n':
+				sb.append('\n');
+				break;
+			case 'r':
+				sb.append('\r');
+				break;
+			case 'f':
+				sb.append('\f');
+				break;
+			case 'u':
+				sb.append(readUnicodeEscape());
+				break;
+			default:
+				sb.append((char) escaped);
+				break;
+			}
+			runStart = pos;
+		}
+
+		sb.append(decode(runStart, pos));
+		return sb.toString();
+	}
+
+	private char readUnicodeEscape() {
+		int value = 0;
+		for (int i = 0; i < 4; ++i) {
+			int digit = pos < limit ? Character.digit(in.get(pos), 16) : -1;
+			if (digit < 0) {
+				throw new IllegalArgumentException("Malformed \\uxxxx encoding."); //$NON-NLS-1$
+			}
+			value = (value << 4) | digit;
+			++pos;
+		}
+		return (char) value;
+	}
+
+	private String decode(int from, int to) {
+		int length = to - from;
+		if (length == 0) {
+			return ""; //$NON-NLS-1$
+		}
+		if (in.hasArray()) {
+			return new String(in.array(), in.arrayOffset() + from, length, charset);
+		}
+
+		if (scratch.length < length) {
+			scratch = new byte[Math.max(length, scratch.length * 2)];
+		}
+		view.limit(to).position(from);
+		view.get(scratch, 0, length);
+		return new String(scratch, 0, length, charset);
+	}
+}
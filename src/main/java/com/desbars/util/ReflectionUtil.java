@@ -1,8 +1,14 @@
 package com.desbars.util;
 
-import java.lang.reflect.Field;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A utility class that simplifies reflection.
@@ -21,6 +27,9 @@ public class ReflectionUtil {
 	/**
 	 * Try to call a method.
 	 * 
+	 * This looks up access and boxes arguments on every call, and hides any
+	 * failure. For repeated calls use `invoker` instead.
+	 * 
 	 * @param method the method to be called
 	 * @param methodOwner the instance that the method belongs to (null for statics)
 	 * @param args any number of arguments needed for the `method`.
@@ -41,29 +50,128 @@ public class ReflectionUtil {
 		return result;
 	}
 
+	/**
+	 * Invokers created so far, per declaring class.
+	 * 
+	 * Stored in a `ClassValue` so that caching an invoker does not keep its class
+	 * from being unloaded.
+	 */
+	private static final ClassValue<Map<Method, MethodInvoker<?>>> invokers = new ClassValue<>() {
+		@Override
+		protected Map<Method, MethodInvoker<?>> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	/**
+	 * Obtain a cached invoker for a method.
+	 * 
+	 * The same invoker is returned for the same `method`. Hold on to it when
+	 * calling the method in a loop.
+	 * 
+	 * @param method     the method to be called
+	 * @param returnType the expected return type; primitives and their wrappers
+	 *                   are interchangeable, and `void` methods match `Void`
+	 * @return an invoker for `method`
+	 * @throws IllegalArgumentException if the method is not accessible, or does
+	 *                                  not return `returnType`
+	 */
+	@SuppressWarnings("unchecked")
+	public static <R> MethodInvoker<R> invoker(Method method, Class<R> returnType) {
+		Class<?> actual = MethodType.methodType(method.getReturnType()).wrap().returnType();
+		Class<?> expected = MethodType.methodType(returnType).wrap().returnType();
+		if (!expected.isAssignableFrom(actual)) {
+			throw new IllegalArgumentException(WRONG_RETURN_TYPE.get() + method);
+		}
+
+		return (MethodInvoker<R>) invokers.get(method.getDeclaringClass()).computeIfAbsent(method,
+				MethodInvoker::new);
+	}
+
+	/**
+	 * Obtain a `MethodHandle` for a method, adapted to the exact `type` it will be
+	 * called with.
+	 * 
+	 * Where an `invoker` erases every argument to `Object` and keeps its handle in
+	 * an instance field, a handle from this method can be stored in a
+	 * `static final` field and called with `invokeExact`. The JIT then treats it
+	 * as a constant and can inline the method as if it were called directly:
+	 * 
+	 * ```
+	 * static final MethodHandle LENGTH = ReflectionUtil.handle(lengthMethod,
+	 * 		MethodType.methodType(int.class, Owner.class, String.class));
+	 * ...
+	 * int length = (int) LENGTH.invokeExact(owner, text);
+	 * ```
+	 * 
+	 * Methods that are not otherwise accessible are looked up the same way as by
+	 * `invoker`, and the `Method` passed in is left unchanged.
+	 * 
+	 * @param method the method to be called
+	 * @param type   the owner's type (omitted for statics), then the parameter
+	 *               types and the return type, as `MethodHandle.asType` allows
+	 * @return a handle of exactly `type`
+	 * @throws IllegalArgumentException if the method is not accessible, or cannot
+	 *                                  be called as `type`
+	 */
+	public static MethodHandle handle(Method method, MethodType type) {
+		MethodHandle target = MethodInvoker.unreflect(method);
+		try {
+			return target.asType(type);
+		} catch (WrongMethodTypeException e) {
+			throw new IllegalArgumentException(WRONG_METHOD_TYPE.get() + method, e);
+		}
+	}
+
+	/**
+	 * Summary templates created so far, per class and list of field names.
+	 */
+	private static final ClassValue<Map<List<String>, FieldSummary>> summaryTemplates = new ClassValue<>() {
+		@Override
+		protected Map<List<String>, FieldSummary> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	/**
+	 * Obtain a cached template that summarizes objects of `type` using `fields`.
+	 * 
+	 * The same template is returned for the same `type` and `fields`. Hold on to
+	 * it to summarize objects without any lookups.
+	 * 
+	 * @param type   the class of objects to be summarized
+	 * @param fields a list of field names to be shown in the summary.
+	 * @return the summary template
+	 */
+	public static FieldSummary summaryTemplate(Class<?> type, String... fields) {
+		Map<List<String>, FieldSummary> templates = summaryTemplates.get(type);
+
+		FieldSummary template = templates.get(Arrays.asList(fields));
+		if (template == null) {
+			// A copy, so that later changes to `fields` do not affect the key. Null
+			// names are allowed, and summarized like other missing fields
+			List<String> key = Arrays.asList(fields.clone());
+			template = templates.computeIfAbsent(key, k -> new FieldSummary(type, k));
+		}
+		return template;
+	}
+
 	/**
 	 * Provide a string summary of an object using the given `fields`.
 	 * 
+	 * Delegates to the cached `summaryTemplate` for the object's class.
+	 * 
 	 * @param object an object to provide a summary for.
 	 * @param fields a list of field names to be shown in the summary.
 	 * @return
 	 */
 	public static String getFieldSummary(Object object, String... fields) {
-		final String BULLET = "  - ";
-		final String ENDL = System.lineSeparator();
-
-		StringBuilder sb = new StringBuilder();
-		sb.append(object.getClass().getSimpleName()).append('\n');
-		for (String fieldName : fields) {
-			Object value = null;
-			try {
-				Field field = object.getClass().getDeclaredField(fieldName);
-				value = field.get(object);
-			} catch (Exception e) {
-				value = e.getClass().getSimpleName();
-			}
-			sb.append(BULLET).append(fieldName).append(": ").append(value).append(ENDL);
-		}
-		return sb.toString();
+		return summaryTemplate(object.getClass(), fields).summarize(object);
 	}
+
+	static final IValue<String> METHOD_NOT_ACCESSIBLE = new LazyMessage("ReflectionUtil.METHOD_NOT_ACCESSIBLE");
+	static final IValue<String> WRONG_ARGUMENT_COUNT = new LazyMessage("ReflectionUtil.WRONG_ARGUMENT_COUNT");
+	static final IValue<String> WRONG_RETURN_TYPE = new LazyMessage("ReflectionUtil.WRONG_RETURN_TYPE");
+	static final IValue<String> WRONG_METHOD_TYPE = new LazyMessage("ReflectionUtil.WRONG_METHOD_TYPE");
+	static final IValue<String> INVOCATION_FAILED = new LazyMessage("ReflectionUtil.INVOCATION_FAILED");
 }
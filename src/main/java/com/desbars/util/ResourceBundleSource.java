@@ -0,0 +1,61 @@
+package com.desbars.util;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+
+/**
+ * An `IBundleSource` that loads bundles through `ResourceBundle`.
+ * 
+ * Bundles are loaded without going through the global `ResourceBundle` cache,
+ * so that the file is always read again. This also keeps the caching of each
+ * `ResourceBundleWrapper` independent: resetting or reloading one wrapper never
+ * evicts the bundles of other wrappers, or of other users of `ResourceBundle`,
+ * so its cost depends only on the size of its own file.
+ * 
+ * A `ResourceBundle` answers a missing key by asking its parent. Copying every
+ * key, including those inherited from parents, flattens that chain.
+ * 
+ * @author Darren
+ */
+final class ResourceBundleSource implements IBundleSource {
+
+	static final ResourceBundleSource INSTANCE = new ResourceBundleSource();
+
+	/**
+	 * Keeps loaded bundles out of the global `ResourceBundle` cache.
+	 */
+	private static final ResourceBundle.Control UNCACHED_CONTROL = new ResourceBundle.Control() {
+		@Override
+		public long getTimeToLive(String baseName, Locale locale) {
+			return TTL_DONT_CACHE;
+		}
+	};
+
+	private ResourceBundleSource() {
+
+	}
+
+	/**
+	 * The cache is keyed by class loader, so the bundle is looked up through a
+	 * new loader that only delegates to ours, which can never hit an existing
+	 * cache entry.
+	 */
+	@Override
+	public BundleTable load(String bundleName, Locale locale) throws MissingResourceException {
+		ClassLoader isolated = new ClassLoader(ResourceBundleSource.class.getClassLoader()) {
+		};
+		ResourceBundle bundle = ResourceBundle.getBundle(bundleName, locale, isolated, UNCACHED_CONTROL);
+
+		Map<String, String> entries = new HashMap<>();
+		for (String key : bundle.keySet()) {
+			Object value = bundle.getObject(key);
+			if (value instanceof String) {
+				entries.put(key, (String) value);
+			}
+		}
+		return BundleTable.of(entries);
+	}
+}
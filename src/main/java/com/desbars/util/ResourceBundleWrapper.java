@@ -1,19 +1,57 @@
 package com.desbars.util;
 
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.MissingResourceException;
-import java.util.ResourceBundle;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
 
 /**
  * Utility class to wrap `ResourceBundle` to access resource property files.
  * 
  * The loading the properties file, and reading the properties does not occur
  * until one of the `getString`, `getInteger`, etc. method are called.
- * Subsequent calls to these methods will attempt to load the properties file
- * again.
+ * If the properties file cannot be loaded, the failure is remembered until the
+ * next `reset` or `reload`, which attempt to load it again.
+ * `findStringValue` and `getStringValue(key, defaultValue)` never throw, and
+ * are meant for probing keys that may legitimately be absent.
+ * `preload` and `preloadAll` do the loading and parsing ahead of time instead,
+ * for example while an application starts.
+ * 
+ * Bundles follow the default locale, unless obtained for a specific locale
+ * through `forName(String, Locale)`.
+ * 
+ * Bundles are loaded through `ResourceBundle` by default. `setSource` can plug
+ * in another `IBundleSource`, such as the faster
+ * `IBundleSource.propertiesFiles()`.
+ * 
+ * Instances are safe to use from multiple threads. Lookups of an already
+ * loaded bundle, or of an already created getter, do not lock. Threads that
+ * find the bundle, or a value, not yet loaded wait for a single thread to
+ * load it, rather than each reading the file.
  * 
  * @author Darren
  */
@@ -22,41 +60,225 @@ public class ResourceBundleWrapper {
 	private final String bundleName;
 
 	/**
-	 * An interface responsible for retrieving the `ResourceBundle`.
+	 * The locale to load the bundle for, or `null` for the default locale at the
+	 * time the bundle is loaded.
+	 */
+	private final Locale locale;
+
+	/**
+	 * Identifies the bundle and locale in messages and reports.
+	 */
+	private final String bundleId;
+
+	/**
+	 * The wrappers for specific locales, when this is the default locale wrapper
+	 * of a bundle, or `null` otherwise.
+	 */
+	private final Map<Locale, ResourceBundleWrapper> localeWrappers;
+
+	/**
+	 * An interface responsible for retrieving the loaded bundle.
+	 * 
+	 * The bundle returned is an immutable snapshot of the properties file. A
+	 * `reload` replaces it with a single atomic swap, so readers never block and
+	 * never see a partially loaded file.
 	 *
 	 * @author Darren
 	 */
 	private interface IBundleGetter {
-		ResourceBundle getBundle();
+		BundleTable getBundle();
+
+		/**
+		 * @return the loaded bundle, or `null` if it is not loaded
+		 */
+		BundleTable getLoadedBundle();
+
+		/**
+		 * Like `getBundle`, but without throwing.
+		 * 
+		 * @return the bundle, or `null` if it cannot be loaded
+		 */
+		BundleTable findBundle();
+
+		/**
+		 * Like `getBundle`, but returns the failure instead of throwing it.
+		 * 
+		 * The result is the same instance until the next `reload` or `reset`, so
+		 * it can tag values resolved from it.
+		 * 
+		 * @return the `BundleTable`, or the `MissingResourceException` that
+		 *         prevented loading it
+		 */
+		Object getSnapshot();
+
+		/**
+		 * Like `getSnapshot`, but never loads the bundle.
+		 * 
+		 * @return the `BundleTable`, the `MissingResourceException` that prevented
+		 *         loading it, or `null` if it has not been loaded
+		 */
+		Object peekSnapshot();
+
+		void reload();
 
 		void reset();
 	}
 
+	/**
+	 * Serializes loading the bundle, and resolving values from a new snapshot,
+	 * so that threads arriving together do not repeat the work. A lock rather
+	 * than `synchronized`, so that threads waiting on I/O do not pin virtual
+	 * threads to their carriers. Reads of resolved values never take it.
+	 */
+	private final ReentrantLock lock = new ReentrantLock();
+
+	/**
+	 * Where getters resolve values for `getAsync`, or `null` for the common
+	 * fork-join pool, which is not started until it is needed.
+	 */
+	private volatile Executor asyncExecutor;
+
+	/**
+	 * Where bundles are loaded from.
+	 */
+	private volatile IBundleSource source = IBundleSource.resourceBundles();
+
 	/**
 	 * An anonymous instantiation of `IBundleGetter`.
 	 * 
-	 * This mechanism is to force lazy evaluation and ensure that the
-	 * `ResourceBundle` is obtained ONLY through the `bundleGetter` and not through
-	 * direct access.
+	 * This mechanism is to force lazy evaluation and ensure that the bundle is
+	 * obtained ONLY through the `bundleGetter` and not through direct access.
 	 */
-	private IBundleGetter bundleGetter = new IBundleGetter() {
+	private final IBundleGetter bundleGetter = new IBundleGetter() {
+
+		/**
+		 * Volatile so that a bundle loaded by one thread is safely published to
+		 * the others.
+		 */
+		private volatile BundleTable bundle;
 
-		private ResourceBundle bundle;
+		/**
+		 * Why the bundle failed to load, if it did. A failure is remembered until
+		 * the next `reload` or `reset`, so that reading a missing bundle does not
+		 * try to load it again each time.
+		 */
+		private volatile MissingResourceException failure;
 
-		public ResourceBundle getBundle() {
-			if (this.bundle == null) {
-				bundle = ResourceBundle.getBundle(bundleName);
+		public BundleTable getBundle() {
+			Object snapshot = getSnapshot();
+			if (snapshot instanceof MissingResourceException) {
+				throw (MissingResourceException) snapshot;
 			}
+			return (BundleTable) snapshot;
+		}
+
+		public BundleTable getLoadedBundle() {
 			return bundle;
 		}
 
+		public BundleTable findBundle() {
+			Object snapshot = getSnapshot();
+			return snapshot instanceof BundleTable ? (BundleTable) snapshot : null;
+		}
+
+		public Object getSnapshot() {
+			BundleTable bundle = this.bundle;
+			if (bundle != null) {
+				return bundle;
+			}
+			MissingResourceException failure = this.failure;
+			if (failure != null) {
+				return failure;
+			}
+			return loadSnapshot();
+		}
+
+		public Object peekSnapshot() {
+			BundleTable bundle = this.bundle;
+			return bundle != null ? bundle : failure;
+		}
+
+		/**
+		 * Load the bundle, unless another thread loaded it while this one waited
+		 * for the lock. Only one thread loads at a time; the others wait for its
+		 * outcome instead of reading the file again.
+		 */
+		private Object loadSnapshot() {
+			lock.lock();
+			try {
+				BundleTable bundle = this.bundle;
+				if (bundle != null) {
+					return bundle;
+				}
+				MissingResourceException failure = this.failure;
+				if (failure != null) {
+					return failure;
+				}
+				long start = System.nanoTime();
+				try {
+					bundle = source.load(bundleName, getLocale());
+				} catch (MissingResourceException e) {
+					LookupMetrics.bundleLoaded(bundleId, false, start, null);
+					this.failure = e;
+					return e;
+				}
+				LookupMetrics.bundleLoaded(bundleId, false, start, bundle);
+				this.bundle = bundle;
+				return bundle;
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		public void reload() {
+			lock.lock();
+			try {
+				// Fully load the new bundle before publishing it
+				long start = System.nanoTime();
+				BundleTable bundle;
+				try {
+					bundle = source.load(bundleName, getLocale());
+				} catch (MissingResourceException e) {
+					LookupMetrics.bundleLoaded(bundleId, true, start, null);
+					throw e;
+				}
+				LookupMetrics.bundleLoaded(bundleId, true, start, bundle);
+				this.bundle = bundle;
+				this.failure = null;
+			} finally {
+				lock.unlock();
+			}
+		}
+
 		public void reset() {
-			this.bundle = null;
+			// Waits for a load in progress, so that its bundle is discarded too
+			lock.lock();
+			try {
+				this.bundle = null;
+				this.failure = null;
+			} finally {
+				lock.unlock();
+			}
+			if (LookupMetrics.enabled) {
+				LookupMetrics.forBundle(bundleId).reset();
+			}
 		}
 
 	};
 
-	private static Map<String, ResourceBundleWrapper> instancesByName;
+	/**
+	 * The task polling the properties file for changes, or `null` when not
+	 * reloading. Guarded by `this`.
+	 */
+	private ScheduledFuture<?> reloadTask;
+
+	/**
+	 * The watcher polled by `reloadTask`, or `null` when not reloading. Guarded by
+	 * `this`.
+	 */
+	private FileWatcher fileWatcher;
+
+	private static final Map<String, ResourceBundleWrapper> instancesByName = new ConcurrentHashMap<>();
 
 	/**
 	 * Obtain a unique instance of `ResourceBundleWrapper` for a given `Class`.
@@ -76,6 +298,20 @@ public class ResourceBundleWrapper {
 		return forName(theClass.getCanonicalName());
 	}
 
+	/**
+	 * Obtain a unique instance of `ResourceBundleWrapper` for a given `Class` and
+	 * `Locale`.
+	 * 
+	 * @param theClass
+	 * @param locale
+	 * @return
+	 * @see #forClass(Class)
+	 * @see #forName(String, Locale)
+	 */
+	public static ResourceBundleWrapper forClass(Class<?> theClass, Locale locale) {
+		return forName(theClass.getCanonicalName(), locale);
+	}
+
 	/**
 	 * Obtain a unique instance of a `ResourceBundleWrapper` for `bundleName`.
 	 * 
@@ -91,14 +327,41 @@ public class ResourceBundleWrapper {
 	 */
 	public static ResourceBundleWrapper forName(String bundleName) {
 
-		if (instancesByName == null) {
-			instancesByName = new HashMap<>();
+		ResourceBundleWrapper wrapper = instancesByName.get(bundleName);
+		if (wrapper == null) {
+			wrapper = instancesByName.computeIfAbsent(bundleName, ResourceBundleWrapper::new);
 		}
 
-		ResourceBundleWrapper wrapper = instancesByName.get(bundleName);
+		return wrapper;
+	}
+
+	/**
+	 * Obtain a unique instance of a `ResourceBundleWrapper` for `bundleName` in a
+	 * specific `locale`.
+	 * 
+	 * Each locale has its own wrapper, with its own getters and its own loaded
+	 * bundle. The bundle's fallback chain for `locale`, e.g. `Thing_fr_CA`,
+	 * `Thing_fr` and `Thing`, is resolved once when the bundle is loaded and
+	 * flattened into a single table, so a lookup costs the same however deep the
+	 * chain is.
+	 * 
+	 * Unlike the wrapper returned by `forName(String)`, which follows the default
+	 * locale, the wrapper returned here always uses `locale`. It starts with the
+	 * source of the `forName(String)` wrapper, but is otherwise independent of it:
+	 * `reset`, `reload` and `setSource` only affect the wrapper they are called
+	 * on.
+	 * 
+	 * @param bundleName
+	 * @param locale
+	 * @return
+	 */
+	public static ResourceBundleWrapper forName(String bundleName, Locale locale) {
+		ResourceBundleWrapper base = forName(bundleName);
+
+		ResourceBundleWrapper wrapper = base.localeWrappers.get(locale);
 		if (wrapper == null) {
-			wrapper = new ResourceBundleWrapper(bundleName);
-			instancesByName.put(bundleName, wrapper);
+			wrapper = base.localeWrappers.computeIfAbsent(locale,
+					l -> new ResourceBundleWrapper(bundleName, l, base.source));
 		}
 
 		return wrapper;
@@ -106,6 +369,24 @@ public class ResourceBundleWrapper {
 
 	private ResourceBundleWrapper(String bundleName) {
 		this.bundleName = bundleName;
+		this.locale = null;
+		this.bundleId = bundleName;
+		this.localeWrappers = new ConcurrentHashMap<>();
+	}
+
+	private ResourceBundleWrapper(String bundleName, Locale locale, IBundleSource source) {
+		this.bundleName = bundleName;
+		this.locale = locale;
+		this.bundleId = bundleName + '[' + locale.toLanguageTag() + ']';
+		this.localeWrappers = null;
+		this.source = source;
+	}
+
+	/**
+	 * @return the locale the bundle is loaded for
+	 */
+	public Locale getLocale() {
+		return locale != null ? locale : Locale.getDefault();
 	}
 
 	/**
@@ -118,37 +399,105 @@ public class ResourceBundleWrapper {
 	 *                                 properties file.
 	 */
 	public String getStringValue(String key) throws BundlePropertyException {
-		ResourceBundle bundle = null;
+		String value;
 		try {
-			bundle = bundleGetter.getBundle();
-		} catch (MissingResourceException e) {
-			throw this.new BundlePropertyException(key, e, BECAUSE_BUNDLE_NOT_LOADED);
+			value = getStringValue(loadBundle(key), key);
+		} catch (BundlePropertyException e) {
+			if (LookupMetrics.enabled) {
+				count(LookupMetrics.forBundle(bundleId).forKey(key), e);
+			}
+			throw e;
+		}
+		if (LookupMetrics.enabled) {
+			count(LookupMetrics.forBundle(bundleId).forKey(key), null);
 		}
+		return value;
+	}
 
+	private BundleTable loadBundle(String key) throws BundlePropertyException {
 		try {
-			return bundle.getString(key);
+			return bundleGetter.getBundle();
 		} catch (MissingResourceException e) {
-			throw this.new BundlePropertyException(key, e, BECAUSE_KEY_NOT_FOUND);
+			throw this.new BundlePropertyException(key, e, BECAUSE_BUNDLE_NOT_LOADED);
 		}
+	}
 
+	private String getStringValue(BundleTable bundle, String key) throws BundlePropertyException {
+		String value = bundle.get(key);
+		if (value == null) {
+			throw this.new BundlePropertyException(key, null, BECAUSE_KEY_NOT_FOUND);
+		}
+		return value;
 	}
 	
-	String getStringValueOptional(String key) { 
-		String value;
-		try {
-			value = getStringValue(key);
-			return value;
-		} catch (BundlePropertyException e) {
-			return getPlaceholderString(key);
+	/**
+	 * Look up the string value for a specified key, without throwing.
+	 * 
+	 * A missing key, or a missing properties file, yields an empty `Optional`.
+	 * A properties file that fails to load is not loaded again until the next
+	 * `reset` or `reload`.
+	 * 
+	 * @param key
+	 * @return the string value for key, if any
+	 */
+	public Optional<String> findStringValue(String key) {
+		return Optional.ofNullable(lookup(key));
+	}
+
+	/**
+	 * Get the string value for a specified key, or `defaultValue` if it has none.
+	 * 
+	 * @param key
+	 * @param defaultValue
+	 * @return string value for key, or `defaultValue`
+	 * @see #findStringValue(String)
+	 */
+	public String getStringValue(String key, String defaultValue) {
+		String value = lookup(key);
+		return value != null ? value : defaultValue;
+	}
+
+	/**
+	 * @return the value for `key`, or `null` if it or the bundle is missing
+	 */
+	private String lookup(String key) {
+		// An absent key costs a single probe of the immutable table
+		BundleTable bundle = bundleGetter.findBundle();
+		String value = bundle == null ? null : bundle.get(key);
+		if (LookupMetrics.enabled) {
+			LookupMetrics.KeyCounters counters = LookupMetrics.forBundle(bundleId).forKey(key);
+			(value != null ? counters.hits : counters.misses).increment();
+		}
+		return value;
+	}
+
+	/**
+	 * Count the outcome of a lookup.
+	 * 
+	 * @param counters
+	 * @param failure  why the lookup failed, or `null` if it found a value
+	 */
+	private static void count(LookupMetrics.KeyCounters counters, BundlePropertyException failure) {
+		if (failure == null) {
+			counters.hits.increment();
+		} else if (failure.isMissing()) {
+			counters.misses.increment();
+		} else {
+			counters.parseFailures.increment();
 		}
 	}
 
+	String getStringValueOptional(String key) {
+		String value = lookup(key);
+		return value != null ? value : getPlaceholderString(key);
+	}
+
 	static String getPlaceholderString(String key) {
-		return String.format("[%s]", key); //$NON-NLS-1$
+		return '[' + key + ']';
 	}
 
 	
-	private Map<String, ValueGetter<Integer>> integerGetters = new HashMap<>();
+	private final Map<String, IntegerGetter> integerGetters = new ConcurrentHashMap<>();
 
 	/**
 	 * Get an integer value for a specified key on the properties file.
@@ -161,56 +510,175 @@ public class ResourceBundleWrapper {
 	 * 
 	 * @param key
 	 * @return `IValue` integer getter for key
+	 * @see #getInt(String)
 	 */
 	public IValue<Integer> getInteger(String key) {
+		return getInt(key);
+	}
+
+	/**
+	 * Get an integer value for a specified key on the properties file, readable
+	 * without boxing.
+	 * 
+	 * Like `getInteger`, which returns the same getter, but typed as `IIntValue`,
+	 * so that `getAsInt` reads the parsed value without boxing once resolved.
+	 * 
+	 * @param key
+	 * @return `IIntValue` integer getter for key
+	 */
+	public IIntValue getInt(String key) {
 
-		ValueGetter<Integer> getter = integerGetters.get(key);
+		IntegerGetter getter = integerGetters.get(key);
 
 		if (getter == null) {
+			getter = integerGetters.computeIfAbsent(key, IntegerGetter::new);
+		}
+		return getter;
 
-			getter = new ValueGetter<Integer>(key) {
-				@Override
-				protected Integer parseFromString(String stringValue) {
-					try {
-						return Integer.parseInt(stringValue);
-					} catch (NumberFormatException e) {
-						
-						
-						throw ResourceBundleWrapper.this.new BundlePropertyException( //
-								key, //
-								e,
-								BECAUSE_NUMBER_FORMAT, //
-								e.getMessage() //
-						);
-					}
-				}
-			};
+	}
+
+	private final Map<String, ObjectGetter<String>> stringGetters = new ConcurrentHashMap<>();
+	private final Map<String, ObjectGetter<Long>> longGetters = new ConcurrentHashMap<>();
+	private final Map<String, ObjectGetter<Double>> doubleGetters = new ConcurrentHashMap<>();
+	private final Map<String, ObjectGetter<Boolean>> booleanGetters = new ConcurrentHashMap<>();
+	private final Map<String, ObjectGetter<Duration>> durationGetters = new ConcurrentHashMap<>();
+	private final Map<String, ObjectGetter<Long>> byteSizeGetters = new ConcurrentHashMap<>();
+	private final Map<Class<?>, Map<String, ObjectGetter<?>>> enumGetters = new ConcurrentHashMap<>();
+	private final Map<String, ObjectGetter<MessageTemplate>> templateGetters = new ConcurrentHashMap<>();
+
+	/**
+	 * Get a string value for a specified key on the properties file.
+	 * 
+	 * Like `getInteger`, a missing `key` is only reported when the returned
+	 * `IValue` `get` method is called.
+	 * 
+	 * @param key
+	 * @return `IValue` string getter for key
+	 */
+	public IValue<String> getString(String key) {
+		return getObject(stringGetters, key, Function.identity(), null);
+	}
+
+	/**
+	 * Get a long value for a specified key on the properties file.
+	 * 
+	 * @param key
+	 * @return `IValue` long getter for key
+	 * @see #getInteger(String)
+	 */
+	public IValue<Long> getLong(String key) {
+		return getObject(longGetters, key, Long::valueOf, BECAUSE_NUMBER_FORMAT);
+	}
+
+	/**
+	 * Get a double value for a specified key on the properties file.
+	 * 
+	 * @param key
+	 * @return `IValue` double getter for key
+	 * @see #getInteger(String)
+	 */
+	public IValue<Double> getDouble(String key) {
+		return getObject(doubleGetters, key, Double::valueOf, BECAUSE_NUMBER_FORMAT);
+	}
+
+	/**
+	 * Get a boolean value for a specified key on the properties file.
+	 * 
+	 * Only `true` and `false` (in any case) are accepted, so that a misspelled
+	 * value is reported instead of silently read as `false`.
+	 * 
+	 * @param key
+	 * @return `IValue` boolean getter for key
+	 * @see #getInteger(String)
+	 */
+	public IValue<Boolean> getBoolean(String key) {
+		return getObject(booleanGetters, key, ResourceBundleWrapper::parseBoolean, BECAUSE_BOOLEAN_FORMAT);
+	}
+
+	/**
+	 * Get a duration value, such as `250ms` or `1.5s`, for a specified key on the
+	 * properties file.
+	 * 
+	 * @param key
+	 * @return `IValue` duration getter for key
+	 * @see #getInteger(String)
+	 * @see Units#parseDuration(String)
+	 */
+	public IValue<Duration> getDuration(String key) {
+		return getObject(durationGetters, key, Units::parseDuration, BECAUSE_DURATION_FORMAT);
+	}
 
-			integerGetters.put(key, getter);
+	/**
+	 * Get a data size, such as `64MiB` or `512KB`, in bytes, for a specified key
+	 * on the properties file.
+	 * 
+	 * @param key
+	 * @return `IValue` byte count getter for key
+	 * @see #getInteger(String)
+	 * @see Units#parseByteSize(String)
+	 */
+	public IValue<Long> getByteSize(String key) {
+		return getObject(byteSizeGetters, key, Units::parseByteSize, BECAUSE_BYTE_SIZE_FORMAT);
+	}
+
+	/**
+	 * Get an enum value for a specified key on the properties file.
+	 * 
+	 * The value is resolved through `EnumWrapper.valueOf`, so synonyms and
+	 * differences in case or underscores are accepted.
+	 * 
+	 * @param enumType
+	 * @param key
+	 * @return `IValue` enum getter for key
+	 * @see #getInteger(String)
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public <E extends Enum<E>> IValue<E> getEnum(Class<E> enumType, String key) {
+		Map<String, ObjectGetter<?>> getters = enumGetters.get(enumType);
+		if (getters == null) {
+			getters = enumGetters.computeIfAbsent(enumType, t -> new ConcurrentHashMap<>());
 		}
-		return getter;
 
+		EnumWrapper<E> wrapper = EnumWrapper.forEnum(enumType);
+		return getObject((Map) getters, key, wrapper::valueOf, BECAUSE_ENUM_FORMAT);
+	}
+
+	/**
+	 * Get a message template, such as `Hello, {0}!`, for a specified key on the
+	 * properties file.
+	 * 
+	 * The template is compiled once per loaded bundle, and can then format its
+	 * arguments straight into a `StringBuilder` or `Appendable`.
+	 * 
+	 * @param key
+	 * @return `IValue` message template getter for key
+	 * @see #getInteger(String)
+	 * @see MessageTemplate
+	 */
+	public IValue<MessageTemplate> getTemplate(String key) {
+		return getObject(templateGetters, key, MessageTemplate::compile, BECAUSE_TEMPLATE_FORMAT);
+	}
+
+	private <E> IValue<E> getObject(Map<String, ObjectGetter<E>> getters, String key,
+			Function<String, ? extends E> parser, IValue<String> parseFailure) {
+
+		ObjectGetter<E> getter = getters.get(key);
+
+		if (getter == null) {
+			getter = getters.computeIfAbsent(key, k -> new ObjectGetter<E>(k, parser, parseFailure));
+		}
+		return getter;
 	}
 
-	// These are not being used... Disabling for now.
-//	private Map<String, ValueGetter<String>> stringGetters = new HashMap<>();
-//
-//	public IValue<String> getString(String key) {
-//		ValueGetter<String> getter = stringGetters.get(key);
-//
-//		if (getter == null) {
-//
-//			getter = new ValueGetter<String>(key) {
-//				@Override
-//				protected String parseFromString(String stringValue) {
-//					return stringValue;
-//				}
-//			};
-//
-//			stringGetters.put(key, getter);
-//		}
-//		return getter;
-//	}
+	private static Boolean parseBoolean(String stringValue) {
+		if ("true".equalsIgnoreCase(stringValue)) { //$NON-NLS-1$
+			return Boolean.TRUE;
+		}
+		if ("false".equalsIgnoreCase(stringValue)) { //$NON-NLS-1$
+			return Boolean.FALSE;
+		}
+		throw new IllegalArgumentException(stringValue);
+	}
 
 	/**
 	 * Using an enum value and a property, create a enum value key
@@ -224,7 +692,7 @@ public class ResourceBundleWrapper {
 	public static String getEnumValueKey(Enum<?> enumValue, String key) {
 		String enumClassName = enumValue.getClass().getSimpleName();
 		String enumName = enumValue.name();
-		String resourceKey = String.format("%s.%s.%s", enumClassName, enumName, key); //$NON-NLS-1$
+		String resourceKey = enumClassName + '.' + enumName + '.' + key;
 		return resourceKey;
 	}
 
@@ -246,9 +714,58 @@ public class ResourceBundleWrapper {
 		return this.getInteger(getEnumValueKey(enumValue, key));
 	}
 
-	private abstract class ValueGetter<E> implements IValue<E> {
-		private E value;
-		private final String key;
+	/**
+	 * Delegates for `getInt`, with the key built as by `getInteger(Enum,
+	 * String)`.
+	 *
+	 * @param enumValue
+	 * @param key
+	 * @return `IIntValue` integer getter for enum value key
+	 */
+	public IIntValue getInt(Enum<?> enumValue, String key) {
+		return getInt(getEnumValueKey(enumValue, key));
+	}
+
+	/**
+	 * Obtain integer getters for `key` on every constant of `enumType`.
+	 * 
+	 * Each entry is the getter that `getInt(constant, key)` would return, so
+	 * enum value keys are built once here rather than on every read. Hold on to
+	 * the returned table and read it with `table.get(constant).getAsInt()`.
+	 *
+	 * @param enumType
+	 * @param key
+	 * @return table of `IIntValue` integer getters indexed by constant
+	 */
+	public <E extends Enum<E>> EnumTable<E, IIntValue> getIntTable(Class<E> enumType, String key) {
+		return EnumWrapper.forEnum(enumType).createTable(constant -> getInt(constant, key));
+	}
+
+	/**
+	 * Base class for getters that lazily resolve and parse the value of a key.
+	 * 
+	 * Subclasses memoize the outcome in an immutable resolved state, tagged with
+	 * the bundle snapshot it was resolved from. A read checks that tag against the
+	 * current snapshot with a single reference comparison, and only resolves the
+	 * value again once `reset` or `reload` has replaced the snapshot. Since every
+	 * getter compares against the same snapshot, a reload is seen by all getters
+	 * at once. A value whose text the reload left unchanged is not parsed again,
+	 * and keeps its version, so values derived from it through `IValue.map` or
+	 * `IValue.combine` are not computed again either.
+	 * 
+	 * Failures are memoized too: a missing bundle, a missing key or an
+	 * unparseable value is resolved once per snapshot, and the same
+	 * `BundlePropertyException` is thrown again on every later read.
+	 *
+	 * @param <E> the type of the parsed value
+	 */
+	private abstract class ValueGetter<E> implements IValue<E>, IVersioned {
+		protected final String key;
+
+		/**
+		 * This key's counters, once looked up while `LookupMetrics` is enabled.
+		 */
+		private LookupMetrics.KeyCounters counters;
 
 		private ValueGetter(String key) {
 			this.key = key;
@@ -256,29 +773,610 @@ public class ResourceBundleWrapper {
 
 		protected abstract E parseFromString(String stringValue);
 
+		/**
+		 * @param snapshot the result of `IBundleGetter.getSnapshot`
+		 * @return the parsed value
+		 * @throws BundlePropertyException if the value cannot be resolved
+		 */
+		protected E resolve(Object snapshot) throws BundlePropertyException {
+			if (snapshot instanceof MissingResourceException) {
+				throw ResourceBundleWrapper.this.new BundlePropertyException( //
+						key, //
+						(MissingResourceException) snapshot, BECAUSE_BUNDLE_NOT_LOADED);
+			}
+			String stringValue = getStringValue((BundleTable) snapshot, key);
+			return parseFromString(stringValue);
+		}
+
+		/**
+		 * @param snapshot the result of `IBundleGetter.getSnapshot`
+		 * @return the unparsed value in `snapshot`, or `null` if it has none
+		 */
+		protected String getRawValue(Object snapshot) {
+			return snapshot instanceof BundleTable ? ((BundleTable) snapshot).get(key) : null;
+		}
+
+		/**
+		 * @param snapshot the result of `IBundleGetter.peekSnapshot`
+		 * @return the stage completed by the value already resolved from
+		 *         `snapshot`, or `null` if it has yet to be resolved
+		 */
+		protected abstract CompletionStage<E> getResolvedStage(Object snapshot);
+
+		/**
+		 * Returns a completed stage if the value is already resolved, without
+		 * allocating. Otherwise the bundle is loaded and the value parsed on the
+		 * wrapper's async executor, so the caller never waits for I/O.
+		 * 
+		 * @see ResourceBundleWrapper#setAsyncExecutor(Executor)
+		 */
+		@Override
+		public CompletionStage<E> getAsync() {
+			Executor executor = asyncExecutor;
+			return getAsync(executor != null ? executor : ForkJoinPool.commonPool());
+		}
+
+		@Override
+		public CompletionStage<E> getAsync(Executor executor) {
+			Object snapshot = bundleGetter.peekSnapshot();
+			if (snapshot != null) {
+				CompletionStage<E> stage = getResolvedStage(snapshot);
+				if (stage != null) {
+					return stage;
+				}
+			}
+			return CompletableFuture.supplyAsync(this::get, executor);
+		}
+
+		/**
+		 * @param failure why the read failed, or `null` if it succeeded
+		 */
+		protected void count(BundlePropertyException failure) {
+			LookupMetrics.KeyCounters counters = this.counters;
+			if (counters == null) {
+				// A race only looks up the same counters twice
+				this.counters = counters = LookupMetrics.forBundle(bundleId).forKey(key);
+			}
+			ResourceBundleWrapper.count(counters, failure);
+		}
+	}
+
+	/**
+	 * A getter for values of any reference type, parsed by a function.
+	 */
+	private final class ObjectGetter<E> extends ValueGetter<E> {
+
+		private final Function<String, ? extends E> parser;
+
+		/**
+		 * The reason reported when `parser` rejects the value, or `null` if it
+		 * accepts any value.
+		 */
+		private final IValue<String> parseFailure;
+
+		private volatile Resolved<E> state = new Resolved<>(null, null, null, null, null);
+
+		private ObjectGetter(String key, Function<String, ? extends E> parser, IValue<String> parseFailure) {
+			super(key);
+			this.parser = parser;
+			this.parseFailure = parseFailure;
+		}
+
+		@Override
+		protected E parseFromString(String stringValue) {
+			try {
+				return parser.apply(stringValue);
+			} catch (IllegalArgumentException e) {
+				throw ResourceBundleWrapper.this.new BundlePropertyException( //
+						key, //
+						e, parseFailure, //
+						e.getMessage() //
+				);
+			}
+		}
+
 		public E get() {
+			Resolved<E> state = currentState();
+			if (LookupMetrics.enabled) {
+				count(state.failure);
+			}
+			if (state.failure != null) {
+				throw state.failure.forThrow();
+			}
+			return state.value;
+		}
+
+		@Override
+		protected CompletionStage<E> getResolvedStage(Object snapshot) {
+			Resolved<E> state = this.state;
+			if (state.snapshot != snapshot) {
+				return null;
+			}
+			if (LookupMetrics.enabled) {
+				count(state.failure);
+			}
+			return state.failure != null ? failedStage(state.failure) : state.stage;
+		}
+
+		public Object getVersion() {
+			return currentState().version;
+		}
 
-			if (value == null) {
-				String stringValue = getStringValue(key);
-				value = parseFromString(stringValue);
+		private Resolved<E> currentState() {
+			Object snapshot = bundleGetter.getSnapshot();
+			Resolved<E> state = this.state;
+			if (state.snapshot != snapshot) {
+				state = resolveState(snapshot);
 			}
+			return state;
+		}
 
-			return value;
+		private Resolved<E> resolveState(Object snapshot) {
+			lock.lock();
+			try {
+				// Another thread may have resolved it while this one waited
+				Resolved<E> state = this.state;
+				if (state.snapshot != snapshot) {
+					String raw = getRawValue(snapshot);
+					if (state.failure == null && raw != null && raw.equals(state.raw)) {
+						// Unchanged by the reload: keep the parsed value and its version
+						state = new Resolved<>(snapshot, raw, state.value, null, state.version);
+					} else {
+						try {
+							state = new Resolved<>(snapshot, raw, resolve(snapshot), null, null);
+						} catch (BundlePropertyException e) {
+							state = new Resolved<>(snapshot, raw, null, e, null);
+						}
+					}
+					this.state = state;
+				}
+				return state;
+			} finally {
+				lock.unlock();
+			}
 		}
 	}
 
+	/**
+	 * A getter for integer values, specialized to read them without boxing.
+	 */
+	private final class IntegerGetter extends ValueGetter<Integer> implements IIntValue {
+
+		private volatile ResolvedInt state = new ResolvedInt(null, null, 0, null, null);
+
+		private IntegerGetter(String key) {
+			super(key);
+		}
+
+		@Override
+		protected Integer parseFromString(String stringValue) {
+			try {
+				return Integer.parseInt(stringValue);
+			} catch (NumberFormatException e) {
+				throw ResourceBundleWrapper.this.new BundlePropertyException( //
+						key, //
+						e, BECAUSE_NUMBER_FORMAT, //
+						e.getMessage() //
+				);
+			}
+		}
+
+		private ResolvedInt checkedState() {
+			ResolvedInt state = currentState();
+			if (LookupMetrics.enabled) {
+				count(state.failure);
+			}
+			if (state.failure != null) {
+				throw state.failure.forThrow();
+			}
+			return state;
+		}
+
+		@Override
+		protected CompletionStage<Integer> getResolvedStage(Object snapshot) {
+			ResolvedInt state = this.state;
+			if (state.snapshot != snapshot) {
+				return null;
+			}
+			if (LookupMetrics.enabled) {
+				count(state.failure);
+			}
+			return state.failure != null ? failedStage(state.failure) : state.stage;
+		}
+
+		public Object getVersion() {
+			return currentState().version;
+		}
+
+		private ResolvedInt currentState() {
+			Object snapshot = bundleGetter.getSnapshot();
+			ResolvedInt state = this.state;
+			if (state.snapshot != snapshot) {
+				state = resolveState(snapshot);
+			}
+			return state;
+		}
+
+		private ResolvedInt resolveState(Object snapshot) {
+			lock.lock();
+			try {
+				// Another thread may have resolved it while this one waited
+				ResolvedInt state = this.state;
+				if (state.snapshot != snapshot) {
+					String raw = getRawValue(snapshot);
+					if (state.failure == null && raw != null && raw.equals(state.raw)) {
+						// Unchanged by the reload: keep the parsed value and its version
+						state = new ResolvedInt(snapshot, raw, state.boxed, null, state.version);
+					} else {
+						try {
+							state = new ResolvedInt(snapshot, raw, resolve(snapshot), null, null);
+						} catch (BundlePropertyException e) {
+							state = new ResolvedInt(snapshot, raw, 0, e, null);
+						}
+					}
+					this.state = state;
+				}
+				return state;
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		public int getAsInt() {
+			return checkedState().value;
+		}
+
+		public Integer get() {
+			return checkedState().boxed;
+		}
+	}
+
+	/**
+	 * The immutable state of a resolved reference value.
+	 * 
+	 * Holds either the `value`, and the stage `getAsync` returns for it, or the
+	 * `failure` to resolve it. The `version` is carried over to the state of
+	 * a later snapshot that has the same `raw` value, so that values derived from
+	 * this one are only computed again when it changes.
+	 */
+	private static final class Resolved<E> {
+		private final Object snapshot;
+		private final String raw;
+		private final E value;
+		private final BundlePropertyException failure;
+		private final CompletionStage<E> stage;
+		private final Object version;
+
+		private Resolved(Object snapshot, String raw, E value, BundlePropertyException failure, Object version) {
+			this.snapshot = snapshot;
+			this.raw = raw;
+			this.value = value;
+			this.failure = failure;
+			this.stage = snapshot == null || failure != null ? null : CompletableFuture.completedStage(value);
+			this.version = version != null ? version : this;
+		}
+	}
+
+	/**
+	 * The immutable state of a resolved integer value.
+	 * 
+	 * The boxed value is kept so that `get` returns the same instance each time.
+	 * 
+	 * @see Resolved
+	 */
+	private static final class ResolvedInt {
+		private final Object snapshot;
+		private final String raw;
+		private final int value;
+		private final Integer boxed;
+		private final BundlePropertyException failure;
+		private final CompletionStage<Integer> stage;
+		private final Object version;
+
+		private ResolvedInt(Object snapshot, String raw, Integer value, BundlePropertyException failure,
+				Object version) {
+			this.snapshot = snapshot;
+			this.raw = raw;
+			this.value = value;
+			this.boxed = value;
+			this.failure = failure;
+			this.stage = snapshot == null || failure != null ? null : CompletableFuture.completedStage(boxed);
+			this.version = version != null ? version : this;
+		}
+	}
+
+	/**
+	 * A stage failed with a `CompletionException`, as `supplyAsync` would fail
+	 * it. Built for each read, so that callers do not share the exception.
+	 */
+	private static <E> CompletionStage<E> failedStage(BundlePropertyException failure) {
+		return CompletableFuture.failedStage(new CompletionException(failure.forThrow()));
+	}
+
+	/**
+	 * Change the executor that getters resolve values on for `getAsync`, when they
+	 * are not resolved yet. The common fork-join pool by default.
+	 * 
+	 * @param executor
+	 */
+	public void setAsyncExecutor(Executor executor) {
+		this.asyncExecutor = executor;
+	}
+
+	/**
+	 * Change where this bundle is loaded from.
+	 * 
+	 * The current bundle is discarded, and loaded from `source` on the next read.
+	 * 
+	 * @param source
+	 */
+	public void setSource(IBundleSource source) {
+		this.source = source;
+		reset();
+	}
+
 	/**
 	 * Resets any loaded values in this resource bundle.
+	 * 
+	 * Only this wrapper's bundle is discarded; it is loaded again on the next
+	 * read. Other bundles stay cached.
 	 */
 	public void reset() {
-		ResourceBundle.clearCache();
 		bundleGetter.reset();
+	}
+
+	/**
+	 * Reload the properties file now.
+	 * 
+	 * The file is fully loaded before it replaces the current bundle in a single
+	 * atomic swap. Until then, readers keep seeing the previous values. If the
+	 * file cannot be loaded, the previous values are kept.
+	 * 
+	 * @throws MissingResourceException if the properties file cannot be loaded
+	 */
+	public void reload() throws MissingResourceException {
+		bundleGetter.reload();
+	}
+
+	/**
+	 * Estimate the memory held by this wrapper's loaded bundle.
+	 * 
+	 * This does not load the bundle.
+	 * 
+	 * @return the estimated size in bytes, or `0` if the bundle is not loaded
+	 * @see BundleTable#getMemoryUsage()
+	 */
+	public long getMemoryUsage() {
+		BundleTable bundle = bundleGetter.getLoadedBundle();
+		return bundle == null ? 0 : bundle.getMemoryUsage();
+	}
+
+	/**
+	 * Estimate the memory held by every loaded bundle.
+	 * 
+	 * Bundles loaded for a specific locale are reported as the bundle name
+	 * followed by the locale's language tag, e.g. `"my.package.Thing[fr-CA]"`.
+	 * 
+	 * @return the estimated size in bytes of each loaded bundle, by bundle name
+	 * @see #getMemoryUsage()
+	 */
+	public static Map<String, Long> getMemoryUsageByBundle() {
+		Map<String, Long> usage = new TreeMap<>();
+		for (ResourceBundleWrapper base : instancesByName.values()) {
+			base.reportMemoryUsage(usage);
+			for (ResourceBundleWrapper wrapper : base.localeWrappers.values()) {
+				wrapper.reportMemoryUsage(usage);
+			}
+		}
+		return usage;
+	}
+
+	private void reportMemoryUsage(Map<String, Long> usage) {
+		BundleTable bundle = bundleGetter.getLoadedBundle();
+		if (bundle != null) {
+			usage.put(bundleId, bundle.getMemoryUsage());
+		}
+	}
+
+	/**
+	 * Load the bundle now, and resolve every getter created so far, instead of
+	 * on their first reads.
+	 *
+	 * A bundle or value that fails to resolve is remembered as on any read, and
+	 * its getter throws the failure when read.
+	 *
+	 * @return the time taken to load the bundle and resolve its getters
+	 */
+	public Duration preload() {
+		long start = System.nanoTime();
+		bundleGetter.getSnapshot();
+		preload(integerGetters);
+		preload(stringGetters);
+		preload(longGetters);
+		preload(doubleGetters);
+		preload(booleanGetters);
+		preload(durationGetters);
+		preload(byteSizeGetters);
+		preload(templateGetters);
+		for (Map<String, ObjectGetter<?>> getters : enumGetters.values()) {
+			preload(getters);
+		}
+		return Duration.ofNanos(System.nanoTime() - start);
+	}
 
-		for (Collection<? extends ValueGetter<?>> valueGetters : Arrays.asList( //
-				// not being used // stringGetters.values(), //
-				integerGetters.values())) {
-			for (ValueGetter<?> valueGetter : valueGetters) {
-				valueGetter.value = null;
+	private static void preload(Map<String, ? extends IValue<?>> getters) {
+		for (IValue<?> getter : getters.values()) {
+			try {
+				getter.get();
+			} catch (BundlePropertyException e) {
+				// Remembered by the getter, and thrown again when it is read
+			}
+		}
+	}
+
+	/**
+	 * Preload every bundle obtained so far through `forName` or `forClass`,
+	 * including those for specific locales, in parallel on the common fork-join
+	 * pool.
+	 *
+	 * @return the time each bundle took to load and resolve its getters, by
+	 *         bundle name as in `getMemoryUsageByBundle`
+	 * @see #preload()
+	 */
+	public static Map<String, Duration> preloadAll() {
+		return preloadAll(ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Preload every bundle obtained so far through `forName` or `forClass`,
+	 * including those for specific locales, in parallel on `executor`.
+	 *
+	 * @param executor runs one task per bundle, such as a virtual thread per task
+	 *                 executor
+	 * @return the time each bundle took to load and resolve its getters, by
+	 *         bundle name as in `getMemoryUsageByBundle`
+	 * @see #preload()
+	 */
+	public static Map<String, Duration> preloadAll(Executor executor) {
+		List<ResourceBundleWrapper> wrappers = new ArrayList<>();
+		for (ResourceBundleWrapper base : instancesByName.values()) {
+			wrappers.add(base);
+			wrappers.addAll(base.localeWrappers.values());
+		}
+		return preload(wrappers, executor);
+	}
+
+	/**
+	 * Preload `wrappers` in parallel on `executor`, and wait for them all.
+	 *
+	 * @param wrappers
+	 * @param executor runs one task per bundle
+	 * @return the time each bundle took to load and resolve its getters, by
+	 *         bundle name as in `getMemoryUsageByBundle`
+	 * @see #preload()
+	 */
+	public static Map<String, Duration> preload(Collection<ResourceBundleWrapper> wrappers, Executor executor) {
+		Map<String, CompletableFuture<Duration>> futures = new TreeMap<>();
+		for (ResourceBundleWrapper wrapper : wrappers) {
+			futures.put(wrapper.bundleId, CompletableFuture.supplyAsync(wrapper::preload, executor));
+		}
+		Map<String, Duration> loadTimes = new TreeMap<>();
+		futures.forEach((bundleId, future) -> loadTimes.put(bundleId, future.join()));
+		return loadTimes;
+	}
+
+	/**
+	 * Start watching the properties file, and `reload` it whenever it changes.
+	 * 
+	 * The file's modification time and size are polled on a shared background
+	 * thread, which also loads the changed file, so readers never wait for it.
+	 * Only properties files on the file system can be watched. Calling this again
+	 * replaces the previous polling interval.
+	 * 
+	 * @param pollInterval how often to check the file for changes
+	 */
+	public synchronized void startReloading(Duration pollInterval) {
+		stopReloading();
+
+		FileWatcher watcher = new FileWatcher(
+				PropertiesFileSource.candidateResourceNames(bundleName, getLocale()));
+		long nanos = pollInterval.toNanos();
+		fileWatcher = watcher;
+		reloadTask = ReloadScheduler.EXECUTOR.scheduleWithFixedDelay(() -> reloadIfChanged(watcher), nanos, nanos,
+				TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Poll the properties file now, as `startReloading` does periodically.
+	 * 
+	 * @return whether the file had changed since the last poll
+	 */
+	boolean pollForChanges() {
+		FileWatcher watcher;
+		synchronized (this) {
+			watcher = fileWatcher;
+		}
+		return watcher != null && reloadIfChanged(watcher);
+	}
+
+	private boolean reloadIfChanged(FileWatcher watcher) {
+		if (!watcher.hasChanged()) {
+			return false;
+		}
+		try {
+			reload();
+		} catch (RuntimeException e) {
+			// Keep the previous values until the file can be loaded again
+		}
+		return true;
+	}
+
+	/**
+	 * Stop watching the properties file started by `startReloading`.
+	 */
+	public synchronized void stopReloading() {
+		if (reloadTask != null) {
+			reloadTask.cancel(false);
+			reloadTask = null;
+			fileWatcher = null;
+		}
+	}
+
+	/**
+	 * Holder of the shared polling thread, created on first use.
+	 */
+	private static final class ReloadScheduler {
+		private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(task -> {
+			Thread thread = new Thread(task, ResourceBundleWrapper.class.getSimpleName() + "-reload"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Detects changes to the properties files backing a bundle.
+	 */
+	private static final class FileWatcher {
+		private final List<String> resourceNames;
+		private Object lastStamp;
+
+		private FileWatcher(List<String> resourceNames) {
+			this.resourceNames = resourceNames;
+			this.lastStamp = stamp();
+		}
+
+		synchronized boolean hasChanged() {
+			Object stamp = stamp();
+			boolean changed = !stamp.equals(lastStamp);
+			lastStamp = stamp;
+			return changed;
+		}
+
+		/**
+		 * @return a value that changes whenever any of the files changes
+		 */
+		private Object stamp() {
+			List<Object> stamps = new ArrayList<>(resourceNames.size());
+			for (String resourceName : resourceNames) {
+				stamps.add(stamp(resourceName));
+			}
+			return stamps;
+		}
+
+		private static Object stamp(String resourceName) {
+			URL url = ResourceBundleWrapper.class.getClassLoader().getResource(resourceName);
+			if (url == null) {
+				return "missing"; //$NON-NLS-1$
+			}
+			if (!"file".equals(url.getProtocol())) { //$NON-NLS-1$
+				return url;
+			}
+
+			try {
+				Path path = Paths.get(url.toURI());
+				return Arrays.asList(Files.getLastModifiedTime(path), Files.size(path));
+			} catch (IOException | URISyntaxException e) {
+				return e.getClass();
 			}
 		}
 	}
@@ -288,6 +1386,26 @@ public class ResourceBundleWrapper {
 	 *
 	 */
 
+	/**
+	 * Whether exceptions thrown by this wrapper skip capturing a stack trace.
+	 */
+	private volatile boolean stacklessExceptions;
+
+	/**
+	 * Choose whether `BundlePropertyException`s thrown by this wrapper capture a
+	 * stack trace.
+	 * 
+	 * Failures are already cached by each getter until the next `reset` or
+	 * `reload`, so a misconfigured key read in a loop rethrows a single
+	 * exception. Stackless exceptions also make the first failure, and every
+	 * failure of `getStringValue`, cheap to throw.
+	 * 
+	 * @param stackless `true` to omit stack traces
+	 */
+	public void setStacklessExceptions(boolean stackless) {
+		this.stacklessExceptions = stackless;
+	}
+
 	/**
 	 * Thrown whenever a bundle property is requested, but a value cannot be
 	 * resolved.
@@ -295,44 +1413,110 @@ public class ResourceBundleWrapper {
 	 * Cases: - When a key is not found in the properties file - If a key has a
 	 * value that cannot be converted to the requested type
 	 * 
+	 * The message is only built when it is first requested.
+	 * 
+	 * Getters remember a failure, and throw it again on every read. A stackless
+	 * failure is the same instance each time, with suppression disabled so that
+	 * callers cannot change it. Otherwise each read throws a copy with its own
+	 * stack trace.
+	 * 
 	 * @author Darren
 	 *
 	 */
 	public class BundlePropertyException extends RuntimeException {
 		private static final long serialVersionUID = -3746398027621227201L;
 
-		BundlePropertyException(String key, Throwable cause, String... reasons) {
-			super(generateKeyFailMessage(bundleName, key) + String.join(", ", reasons), cause);
+		private final String key;
+
+		private final IValue<String> reason;
+
+		private final String detail;
+
+		private final boolean stackless;
+
+		private String message;
+
+		BundlePropertyException(String key, Throwable cause, IValue<String> reason) {
+			this(key, cause, reason, null);
+		}
+
+		BundlePropertyException(String key, Throwable cause, IValue<String> reason, String detail) {
+			this(key, cause, reason, detail, ResourceBundleWrapper.this.stacklessExceptions);
+		}
+
+		private BundlePropertyException(String key, Throwable cause, IValue<String> reason, String detail,
+				boolean stackless) {
+			super(null, cause, !stackless, !stackless);
+			this.key = key;
+			this.reason = reason;
+			this.detail = detail;
+			this.stackless = stackless;
+		}
+
+		/**
+		 * @return this exception if it is stackless, and so can be shared between
+		 *         reads, or otherwise a copy with the caller's stack trace
+		 */
+		BundlePropertyException forThrow() {
+			return stackless ? this : new BundlePropertyException(key, getCause(), reason, detail, false);
+		}
+
+		/**
+		 * @return the key whose value could not be resolved
+		 */
+		public String getKey() {
+			return key;
+		}
+
+		/**
+		 * @return whether the key or its bundle is missing, as opposed to its value
+		 *         failing to parse
+		 */
+		boolean isMissing() {
+			return reason == BECAUSE_KEY_NOT_FOUND || reason == BECAUSE_BUNDLE_NOT_LOADED;
+		}
+
+		@Override
+		public String getMessage() {
+			// A race only builds the same immutable message twice
+			String message = this.message;
+			if (message == null) {
+				message = generateKeyFailMessage(bundleId, key) + reason.get();
+				if (detail != null) {
+					message += ", " + detail;
+				}
+				this.message = message;
+			}
+			return message;
 		}
 	}
 
-	private static String generateKeyFailMessage(String bundleName, String key) {
-		return FAILED_TO_RETRIEVE_KEY + bundleName + ", " + key + ": ";
+	private static String generateKeyFailMessage(String bundleId, String key) {
+		return FAILED_TO_RETRIEVE_KEY.get() + bundleId + ", " + key + ": ";
 	}
 
 	/********************
 	 * Messages
+	 * 
+	 * Resolved on demand, so that initializing this class does not load
+	 * `Messages.properties`.
 	 */
 
-	static {
+	static final IValue<String> FAILED_TO_RETRIEVE_KEY = new LazyMessage("ResourceBundleWrapper.FAILED_TO_RETRIEVE_KEY"); //$NON-NLS-1$
 
-		// These don't go through the typical Messages class `get` method
-		// due to
+	static final IValue<String> BECAUSE_BUNDLE_NOT_LOADED = new LazyMessage("ResourceBundleWrapper.BECAUSE_BUNDLE_NOT_LOADED"); //$NON-NLS-1$
 
-		ResourceBundleWrapper messages = forClass(Messages.class);
+	static final IValue<String> BECAUSE_KEY_NOT_FOUND = new LazyMessage("ResourceBundleWrapper.BECAUSE_KEY_NOT_FOUND"); //$NON-NLS-1$
 
-		FAILED_TO_RETRIEVE_KEY = messages.getStringValue("ResourceBundleWrapper.FAILED_TO_RETRIEVE_KEY"); //$NON-NLS-1$
-		BECAUSE_BUNDLE_NOT_LOADED = messages.getStringValue("ResourceBundleWrapper.BECAUSE_BUNDLE_NOT_LOADED"); //$NON-NLS-1$
-		BECAUSE_KEY_NOT_FOUND = messages.getStringValue("ResourceBundleWrapper.BECAUSE_KEY_NOT_FOUND"); //$NON-NLS-1$
-		BECAUSE_NUMBER_FORMAT = messages.getStringValue("ResourceBundleWrapper.BECAUSE_NUMBER_FORMAT"); //$NON-NLS-1$
+	static final IValue<String> BECAUSE_NUMBER_FORMAT = new LazyMessage("ResourceBundleWrapper.BECAUSE_NUMBER_FORMAT"); //$NON-NLS-1$
 
-	}
+	static final IValue<String> BECAUSE_BOOLEAN_FORMAT = new LazyMessage("ResourceBundleWrapper.BECAUSE_BOOLEAN_FORMAT"); //$NON-NLS-1$
 
-	static final String FAILED_TO_RETRIEVE_KEY;
+	static final IValue<String> BECAUSE_DURATION_FORMAT = new LazyMessage("ResourceBundleWrapper.BECAUSE_DURATION_FORMAT"); //$NON-NLS-1$
 
-	static final String BECAUSE_BUNDLE_NOT_LOADED;
+	static final IValue<String> BECAUSE_BYTE_SIZE_FORMAT = new LazyMessage("ResourceBundleWrapper.BECAUSE_BYTE_SIZE_FORMAT"); //$NON-NLS-1$
 
-	static final String BECAUSE_KEY_NOT_FOUND;
+	static final IValue<String> BECAUSE_ENUM_FORMAT = new LazyMessage("ResourceBundleWrapper.BECAUSE_ENUM_FORMAT"); //$NON-NLS-1$
 
-	static final String BECAUSE_NUMBER_FORMAT;
+	static final IValue<String> BECAUSE_TEMPLATE_FORMAT = new LazyMessage("ResourceBundleWrapper.BECAUSE_TEMPLATE_FORMAT"); //$NON-NLS-1$
 }
@@ -0,0 +1,155 @@
+package com.desbars.util;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Parsers for human-readable quantities in property values.
+ * 
+ * Note: This class is not meant to be constructable.
+ * 
+ * @author Darren
+ *
+ */
+final class Units {
+
+	private static final BigInteger NANOS_PER_SECOND = BigInteger.valueOf(1_000_000_000L);
+
+	private static final Map<String, Long> NANOS_PER_UNIT = Map.of( //
+			"ns", 1L, //
+			"us", 1_000L, //
+			"\u00b5s", 1_000L, //
+			"ms", 1_000_000L, //
+			"s", 1_000_000_000L, //
+			"m", 60_000_000_000L, //
+			"min", 60_000_000_000L, //
+			"h", 3_600_000_000_000L, //
+			"d", 86_400_000_000_000L //
+	);
+
+	/**
+	 * Keyed by upper case unit. Decimal units are powers of 1000, binary (IEC)
+	 * units are powers of 1024.
+	 */
+	private static final Map<String, Long> BYTES_PER_UNIT = Map.ofEntries( //
+			Map.entry("B", 1L), //
+			Map.entry("KB", 1_000L), //
+			Map.entry("MB", 1_000_000L), //
+			Map.entry("GB", 1_000_000_000L), //
+			Map.entry("TB", 1_000_000_000_000L), //
+			Map.entry("PB", 1_000_000_000_000_000L), //
+			Map.entry("KIB", 1L << 10), //
+			Map.entry("MIB", 1L << 20), //
+			Map.entry("GIB", 1L << 30), //
+			Map.entry("TIB", 1L << 40), //
+			Map.entry("PIB", 1L << 50) //
+	);
+
+	private Units() {
+		// Not meant to be constructable...
+	}
+
+	/**
+	 * Parse a duration such as `"250ms"`, `"1.5s"` or `"2h"`.
+	 * 
+	 * Supported units are `ns`, `us`, `ms`, `s`, `m` (or `min`), `h`
+	 * and `d`. ISO-8601 durations such as `"PT0.25S"` are accepted as well.
+	 * 
+	 * @param text
+	 * @return the parsed duration
+	 * @throws IllegalArgumentException if `text` is not a valid duration, or is
+	 *                                  not a whole number of nanoseconds
+	 */
+	static Duration parseDuration(String text) {
+		String trimmed = text.trim();
+		if (startsIso8601(trimmed)) {
+			try {
+				return Duration.parse(trimmed);
+			} catch (DateTimeParseException e) {
+				throw new IllegalArgumentException(text, e);
+			}
+		}
+
+		int split = unitIndex(trimmed);
+		Long nanosPerUnit = NANOS_PER_UNIT.get(trimmed.substring(split).trim());
+		if (nanosPerUnit == null) {
+			throw new IllegalArgumentException(text);
+		}
+
+		BigDecimal nanos = parseAmount(trimmed.substring(0, split), text).multiply(BigDecimal.valueOf(nanosPerUnit));
+		try {
+			BigInteger[] secondsAndNanos = nanos.setScale(0, RoundingMode.UNNECESSARY).toBigInteger()
+					.divideAndRemainder(NANOS_PER_SECOND);
+			return Duration.ofSeconds(secondsAndNanos[0].longValueExact(), secondsAndNanos[1].longValue());
+		} catch (ArithmeticException e) {
+			throw new IllegalArgumentException(text, e);
+		}
+	}
+
+	/**
+	 * Parse a data size such as `"64MiB"`, `"512KB"` or `"1024"`, in bytes.
+	 * 
+	 * A number without a unit is a number of bytes. `KB`, `MB`, `GB`, `TB` and
+	 * `PB` are powers of 1000, while `KiB`, `MiB`, `GiB`, `TiB` and `PiB` are
+	 * powers of 1024. Units are case-insensitive.
+	 * 
+	 * @param text
+	 * @return the parsed number of bytes
+	 * @throws IllegalArgumentException if `text` is not a valid data size, or is
+	 *                                  negative or not a whole number of bytes
+	 */
+	static long parseByteSize(String text) {
+		String trimmed = text.trim();
+
+		int split = unitIndex(trimmed);
+		String unit = trimmed.substring(split).trim().toUpperCase(Locale.ROOT);
+		Long bytesPerUnit = unit.isEmpty() ? Long.valueOf(1L) : BYTES_PER_UNIT.get(unit);
+		if (bytesPerUnit == null) {
+			throw new IllegalArgumentException(text);
+		}
+
+		BigDecimal bytes = parseAmount(trimmed.substring(0, split), text).multiply(BigDecimal.valueOf(bytesPerUnit));
+		if (bytes.signum() < 0) {
+			throw new IllegalArgumentException(text);
+		}
+		try {
+			return bytes.setScale(0, RoundingMode.UNNECESSARY).longValueExact();
+		} catch (ArithmeticException e) {
+			throw new IllegalArgumentException(text, e);
+		}
+	}
+
+	private static boolean startsIso8601(String text) {
+		int start = text.startsWith("-") || text.startsWith("+") ? 1 : 0;
+		return text.length() > start && Character.toUpperCase(text.charAt(start)) == 'P';
+	}
+
+	/**
+	 * @return the index of the first character after the numeric amount
+	 */
+	private static int unitIndex(String text) {
+		int i = 0;
+		while (i < text.length()) {
+			char c = text.charAt(i);
+			if ((c >= '0' && c <= '9') || c == '.' || c == '-' || c == '+') {
+				++i;
+			} else {
+				break;
+			}
+		}
+		return i;
+	}
+
+	private static BigDecimal parseAmount(String amount, String text) {
+		try {
+			return new BigDecimal(amount);
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException(text, e);
+		}
+	}
+}
@@ -0,0 +1,251 @@
+package com.desbars.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+
+@BundleAccessors(enums = BundleAccessorProcessorTest.Color.class)
+public class BundleAccessorProcessorTest {
+
+	public static enum Color {
+		RED, GREEN, BLUE
+	}
+
+	@Test
+	public void test_generatedAccessors() {
+		assertEquals(30, BundleAccessorProcessorTestProperties.TIMEOUT.getAsInt());
+		assertEquals(10_000_000_000L, BundleAccessorProcessorTestProperties.BIG_NUMBER.get());
+		assertEquals(0.75, BundleAccessorProcessorTestProperties.RATIO.get());
+		assertEquals(Boolean.TRUE, BundleAccessorProcessorTestProperties.ENABLED.get());
+		assertEquals("Hello, {0}!", BundleAccessorProcessorTestProperties.GREETING.get());
+
+		// Not numbers, although Double.parseDouble accepts them
+		IValue<String> retryDelay = BundleAccessorProcessorTestProperties.RETRY_DELAY;
+		IValue<String> pollInterval = BundleAccessorProcessorTestProperties.POLL_INTERVAL;
+		IValue<String> padded = BundleAccessorProcessorTestProperties.PADDED;
+		assertEquals("7d", retryDelay.get());
+		assertEquals("10s", pollInterval.get());
+		assertEquals(" 42", padded.get());
+
+		ResourceBundleWrapper wrapper = ResourceBundleWrapper.forClass(BundleAccessorProcessorTest.class);
+		assertSame(wrapper.getInteger("timeout"), BundleAccessorProcessorTestProperties.TIMEOUT);
+	}
+
+	@Test
+	public void test_generatedEnumAccessors() {
+		assertEquals(3, BundleAccessorProcessorTestProperties.colorWeight(Color.RED).getAsInt());
+		assertEquals(7, BundleAccessorProcessorTestProperties.colorWeight(Color.BLUE).getAsInt());
+		assertEquals("00ff00", BundleAccessorProcessorTestProperties.colorHex(Color.GREEN).get());
+
+		ResourceBundleWrapper wrapper = ResourceBundleWrapper.forClass(BundleAccessorProcessorTest.class);
+		assertSame(wrapper.getInteger(Color.GREEN, "weight"), BundleAccessorProcessorTestProperties.colorWeight(Color.GREEN));
+	}
+
+	@Test
+	public void test_missingKey() throws IOException, URISyntaxException {
+		String errors = compile("Color.RED.weight=1\nColor.BLUE.weight=2\n");
+
+		assertTrue(errors.contains(BundleAccessorProcessor.MISSING_KEY.get() + "Color.GREEN.weight"), errors);
+	}
+
+	@Test
+	public void test_bundleNotFound() throws IOException, URISyntaxException {
+		String errors = compile(null);
+
+		assertTrue(errors.contains(BundleAccessorProcessor.BUNDLE_NOT_FOUND.get() + "sample.Sample"), errors);
+	}
+
+	@Test
+	public void test_duplicateName() throws IOException, URISyntaxException {
+		String errors = compile("max.value=1\nmaxValue=2\n");
+
+		assertTrue(errors.contains(BundleAccessorProcessor.DUPLICATE_NAME.get() + "MAX_VALUE"), errors);
+	}
+
+	@Test
+	public void test_duplicateName_enumKey() throws IOException, URISyntaxException {
+		String errors = compile("Color.RED.weight=1\nColor.GREEN.weight=2\nColor.BLUE.weight=3\nColor.weight=4\n");
+
+		assertTrue(errors.contains(BundleAccessorProcessor.DUPLICATE_NAME.get() + "COLOR_WEIGHT"), errors);
+	}
+
+	@Test
+	public void test_duplicateName_enumMethod() throws IOException, URISyntaxException {
+		String errors = compile("Color.RED.a1=1\nColor.GREEN.a1=2\nColor.BLUE.a1=3\n" //
+				+ "Color.RED.a.1=1\nColor.GREEN.a.1=2\nColor.BLUE.a.1=3\n");
+
+		assertTrue(errors.contains(BundleAccessorProcessor.DUPLICATE_NAME.get() + "colorA1"), errors);
+	}
+
+	@Test
+	public void test_valid() throws IOException, URISyntaxException {
+		String source = generate(DEFAULT_ARGUMENTS, "SampleProperties",
+				"Color.RED.weight=1\nColor.GREEN.weight=2\nColor.BLUE.weight=3\nkey=value\n");
+
+		assertTrue(source.startsWith("package sample;"), source);
+		assertTrue(source.contains("com.desbars.util.IIntValue colorWeight(sample.Sample.Color constant)"), source);
+		assertTrue(source.contains("com.desbars.util.IValue<String> KEY = BUNDLE.getString(\"key\");"), source);
+	}
+
+	@Test
+	public void test_valueTypes() throws IOException, URISyntaxException {
+		String source = generate(DEFAULT_ARGUMENTS, "SampleProperties", String.join("\n", //
+				"flag=FALSE", //
+				"huge=99999999999999999999", //
+				"Color.RED.mix=1", "Color.GREEN.mix=10000000000", "Color.BLUE.mix=0.5", //
+				"Color.RED.size=10000000000", "Color.GREEN.size=1", "Color.BLUE.size=2", //
+				"Color.RED.flag=true", "Color.GREEN.flag=1", "Color.BLUE.flag=x", //
+				"Color.RED.on=1", "Color.GREEN.on=true", "Color.BLUE.on=x", //
+				"Color.RED.name=x", "Color.GREEN.name=1", "Color.BLUE.name=2", //
+				"Color.RED.code=1", "Color.GREEN.code=x", "Color.BLUE.code=2"));
+
+		assertTrue(source.contains("IValue<Boolean> FLAG = BUNDLE.getBoolean("), source);
+		assertTrue(source.contains("IValue<Double> HUGE = BUNDLE.getDouble("), source);
+		assertTrue(source.contains("IValue<Double> colorMix("), source);
+		assertTrue(source.contains("IValue<Long> colorSize("), source);
+		assertTrue(source.contains("IValue<String> colorFlag("), source);
+		assertTrue(source.contains("IValue<String> colorOn("), source);
+		assertTrue(source.contains("IValue<String> colorName("), source);
+		assertTrue(source.contains("IValue<String> colorCode("), source);
+		assertTrue(source.contains("getEnumValueKey(constant, \"mix\")"), source);
+	}
+
+	@Test
+	public void test_bundleAndClassName() throws IOException, URISyntaxException {
+		String source = generate("value = \"sample.Sample\", className = \"SampleAccessors\"", "SampleAccessors",
+				"key=value\n");
+
+		assertTrue(source.contains("public final class SampleAccessors {"), source);
+		assertTrue(source.contains("ResourceBundleWrapper.forName(\"sample.Sample\")"), source);
+	}
+
+	@Test
+	public void test_bundleNotFound_defaultPackage() throws IOException, URISyntaxException {
+		String errors = compile(Files.createTempDirectory("BundleAccessorProcessorTest"), "value = \"Sample\"",
+				"key=value\n");
+
+		assertTrue(errors.contains(BundleAccessorProcessor.BUNDLE_NOT_FOUND.get() + "Sample"), errors);
+	}
+
+	@Test
+	public void test_constantName() {
+		assertEquals("COLOR_RED_MAX_VALUE", BundleAccessorProcessor.constantName("Color.RED.maxValue"));
+		assertEquals("A1_B", BundleAccessorProcessor.constantName("a1B"));
+		assertEquals("A_B", BundleAccessorProcessor.constantName(".a..b."));
+		assertEquals("CAF", BundleAccessorProcessor.constantName("caf\u00e9"));
+		assertEquals("_9LIVES", BundleAccessorProcessor.constantName("9lives"));
+		assertEquals("_", BundleAccessorProcessor.constantName("..."));
+	}
+
+	@Test
+	public void test_methodName() {
+		assertEquals("colorMaxValue", BundleAccessorProcessor.methodName("COLOR_MAX_VALUE"));
+		assertEquals("_9lives", BundleAccessorProcessor.methodName("_9LIVES"));
+		assertEquals("_class", BundleAccessorProcessor.methodName("CLASS"));
+	}
+
+	@Test
+	public void test_literal() {
+		assertEquals("\"plain\"", BundleAccessorProcessor.literal("plain"));
+		assertEquals("\"\\\"a\\\\b\\n\\r\\t\"", BundleAccessorProcessor.literal("\"a\\b\n\r\t"));
+		assertEquals("\"\\u0001caf\\u00e9\"", BundleAccessorProcessor.literal("\u0001caf\u00e9"));
+	}
+
+	@Test
+	public void test_comment() {
+		assertEquals("`a\\\\u0041`", BundleAccessorProcessor.comment("a\\u0041"));
+		assertEquals("`/* *&#47; /`", BundleAccessorProcessor.comment("/* */ /"));
+		assertEquals("`?caf?`", BundleAccessorProcessor.comment("\ncaf\u00e9"));
+	}
+
+	private static final String DEFAULT_ARGUMENTS = "enums = Sample.Color.class";
+
+	/**
+	 * Compile a sample annotated class with `BundleAccessorProcessor`, next to a
+	 * bundle with the given `properties`.
+	 *
+	 * @return the errors reported, one per line
+	 */
+	private static String compile(String properties) throws IOException, URISyntaxException {
+		return compile(Files.createTempDirectory("BundleAccessorProcessorTest"), DEFAULT_ARGUMENTS, properties);
+	}
+
+	/**
+	 * Compile a sample class annotated with the given `BundleAccessors`
+	 * `arguments`, which must not report any errors.
+	 *
+	 * @return the source of the generated `className`
+	 */
+	private static String generate(String arguments, String className, String properties)
+			throws IOException, URISyntaxException {
+		Path dir = Files.createTempDirectory("BundleAccessorProcessorTest");
+		assertEquals("", compile(dir, arguments, properties));
+
+		String source = Files.readString(dir.resolve("out/sample/" + className + ".java"));
+		assertFalse(source.isEmpty());
+		return source;
+	}
+
+	/**
+	 * Compile, in `dir`, a sample class annotated with the given
+	 * `BundleAccessors` `arguments`, next to a bundle with the given
+	 * `properties`.
+	 *
+	 * @return the errors reported, one per line
+	 */
+	private static String compile(Path dir, String arguments, String properties)
+			throws IOException, URISyntaxException {
+		Path sources = Files.createDirectories(dir.resolve("src/sample"));
+		Path output = Files.createDirectories(dir.resolve("out"));
+
+		Files.writeString(sources.resolve("Sample.java"), String.join("\n", //
+				"package sample;", //
+				"@SuppressWarnings(\"all\")", //
+				"@com.desbars.util.BundleAccessors(" + arguments + ")", //
+				"public class Sample {", //
+				"	public enum Color { RED, GREEN, BLUE }", //
+				"}"));
+		if (properties != null) {
+			Files.writeString(sources.resolve("Sample.properties"), properties);
+		}
+
+		Path library = Paths.get(BundleAccessors.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+		try (StandardJavaFileManager files = compiler.getStandardFileManager(null, null, null)) {
+			JavaCompiler.CompilationTask task = compiler.getTask(new StringWriter(), files, diagnostics,
+					List.of("-proc:only", "-classpath", library.toString(), "-sourcepath",
+							dir.resolve("src").toString(), "-s", output.toString(), "-d", output.toString()),
+					null, files.getJavaFileObjects(sources.resolve("Sample.java").toFile()));
+			task.setProcessors(List.of(new BundleAccessorProcessor()));
+			task.call();
+		}
+
+		StringBuilder errors = new StringBuilder();
+		for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+			if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+				errors.append(diagnostic.getMessage(null)).append('\n');
+			}
+		}
+		return errors.toString();
+	}
+}
@@ -0,0 +1,67 @@
+package com.desbars.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class BundleTableTest {
+
+	@Test
+	public void test_get() {
+		Map<String, String> properties = new HashMap<>();
+		for (int i = 0; i < 1000; ++i) {
+			properties.put("key" + i, "value" + i);
+		}
+		BundleTable table = BundleTable.of(properties);
+
+		assertEquals(1000, table.size());
+		assertEquals(properties.keySet(), table.keySet());
+		for (int i = 0; i < 1000; ++i) {
+			// A new key instance, so the lookup cannot match by identity
+			assertEquals("value" + i, table.get(new String("key" + i)));
+		}
+		assertNull(table.get("missing"));
+		assertNull(table.get(""));
+	}
+
+	@Test
+	public void test_get_empty() {
+		BundleTable table = BundleTable.of(Map.of());
+
+		assertEquals(0, table.size());
+		assertNull(table.get("missing"));
+	}
+
+	@Test
+	public void test_internedKeys() {
+		BundleTable table = BundleTable.of(Map.of(new String("interned"), "value"));
+
+		table.forEach((key, value) -> assertSame("interned", key));
+	}
+
+	@Test
+	public void test_sharedValues() {
+		BundleTable table = BundleTable.of(Map.of("a", new String("true"), "b", new String("true")));
+
+		assertSame(table.get("a"), table.get("b"));
+	}
+
+	@Test
+	public void test_getMemoryUsage() {
+		Map<String, String> small = Map.of("key", "value");
+		Map<String, String> large = new HashMap<>();
+		for (int i = 0; i < 100; ++i) {
+			large.put("key" + i, "value" + i);
+		}
+
+		long smallUsage = BundleTable.of(small).getMemoryUsage();
+		assertTrue(smallUsage > 0);
+		assertTrue(BundleTable.of(large).getMemoryUsage() > 100 * smallUsage / 2);
+	}
+}
@@ -0,0 +1,157 @@
+package com.desbars.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+public class DerivedValueTest {
+
+	/**
+	 * A bundle whose properties can be changed, and seen after a reset.
+	 */
+	private static ResourceBundleWrapper wrapper(String bundleName, Map<String, String> properties) {
+		ResourceBundleWrapper wrapper = ResourceBundleWrapper.forName(bundleName);
+		wrapper.setSource((name, locale) -> BundleTable.of(properties));
+		return wrapper;
+	}
+
+	@Test
+	public void test_map() {
+		Map<String, String> properties = new HashMap<>(Map.of("cores", "4"));
+		ResourceBundleWrapper wrapper = wrapper("DerivedValueTest.test_map", properties);
+
+		AtomicInteger computations = new AtomicInteger();
+		IValue<Integer> poolSize = wrapper.getInteger("cores").map(cores -> {
+			computations.incrementAndGet();
+			return cores * 2;
+		});
+
+		assertEquals(8, poolSize.get());
+		assertEquals(8, poolSize.get());
+		assertEquals(1, computations.get());
+
+		// Unchanged by the reset, so not computed again
+		wrapper.reset();
+		assertEquals(8, poolSize.get());
+		assertEquals(1, computations.get());
+
+		properties.put("cores", "16");
+		wrapper.reset();
+		assertEquals(32, poolSize.get());
+		assertEquals(2, computations.get());
+	}
+
+	@Test
+	public void test_combine_onlyAffected() {
+		Map<String, String> properties = new HashMap<>(Map.of("min", "2", "max", "10", "other", "x"));
+		ResourceBundleWrapper wrapper = wrapper("DerivedValueTest.test_combine_onlyAffected", properties);
+
+		AtomicInteger rangeComputations = new AtomicInteger();
+		IValue<Integer> range = IValue.combine(wrapper.getInteger("min"), wrapper.getInteger("max"), (min, max) -> {
+			rangeComputations.incrementAndGet();
+			return max - min;
+		});
+		AtomicInteger otherComputations = new AtomicInteger();
+		IValue<String> other = wrapper.getString("other").map(value -> {
+			otherComputations.incrementAndGet();
+			return value.toUpperCase();
+		});
+
+		assertEquals(8, range.get());
+		assertEquals("X", other.get());
+
+		properties.put("max", "20");
+		wrapper.reset();
+		assertEquals(18, range.get());
+		assertEquals("X", other.get());
+		assertEquals(2, rangeComputations.get());
+		assertEquals(1, otherComputations.get());
+	}
+
+	@Test
+	public void test_combine_list() {
+		Map<String, String> properties = new HashMap<>(Map.of("a", "1", "b", "2", "c", "3"));
+		ResourceBundleWrapper wrapper = wrapper("DerivedValueTest.test_combine_list", properties);
+
+		IValue<Integer> sum = IValue.combine(
+				List.of(wrapper.getInteger("a"), wrapper.getInteger("b"), wrapper.getInteger("c")), values -> {
+					int total = 0;
+					for (Object value : values) {
+						total += (Integer) value;
+					}
+					return total;
+				});
+
+		assertEquals(6, sum.get());
+		properties.put("c", "30");
+		wrapper.reload();
+		assertEquals(33, sum.get());
+	}
+
+	@Test
+	public void test_derivedFromDerived() {
+		Map<String, String> properties = new HashMap<>(Map.of("cores", "4"));
+		ResourceBundleWrapper wrapper = wrapper("DerivedValueTest.test_derivedFromDerived", properties);
+
+		AtomicInteger computations = new AtomicInteger();
+		IValue<Integer> doubled = wrapper.getInteger("cores").map(cores -> cores * 2);
+		IValue<String> described = doubled.map(size -> {
+			computations.incrementAndGet();
+			return "pool of " + size;
+		});
+
+		assertEquals("pool of 8", described.get());
+		assertSame(described.get(), described.get());
+		wrapper.reset();
+		assertEquals("pool of 8", described.get());
+		assertEquals(1, computations.get());
+
+		properties.put("cores", "5");
+		wrapper.reset();
+		assertEquals("pool of 10", described.get());
+		assertEquals(2, computations.get());
+	}
+
+	@Test
+	public void test_unversionedDependency() {
+		AtomicReference<String> name = new AtomicReference<>("a");
+		AtomicInteger computations = new AtomicInteger();
+		IValue<String> upper = ((IValue<String>) name::get).map(value -> {
+			computations.incrementAndGet();
+			return value.toUpperCase();
+		});
+
+		assertEquals("A", upper.get());
+		assertEquals("A", upper.get());
+		assertEquals(1, computations.get());
+
+		name.set("b");
+		assertEquals("B", upper.get());
+		assertEquals(2, computations.get());
+	}
+
+	@Test
+	public void test_failureNotMemoized() {
+		Map<String, String> properties = new HashMap<>(Map.of("cores", "many"));
+		ResourceBundleWrapper wrapper = wrapper("DerivedValueTest.test_failureNotMemoized", properties);
+
+		IValue<Integer> poolSize = wrapper.getInteger("cores").map(cores -> cores * 2);
+		IValue<Integer> doubledPoolSize = poolSize.map(size -> size * 2);
+
+		assertThrows(ResourceBundleWrapper.BundlePropertyException.class, poolSize::get);
+		assertThrows(ResourceBundleWrapper.BundlePropertyException.class, doubledPoolSize::get);
+
+		properties.put("cores", "4");
+		wrapper.reset();
+		assertEquals(8, poolSize.get());
+		assertEquals(16, doubledPoolSize.get());
+	}
+}
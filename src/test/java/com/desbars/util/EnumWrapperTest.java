@@ -1,9 +1,16 @@
 package com.desbars.util;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static com.desbars.util.TestUtil.assertStartsWith;
 
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 
@@ -24,6 +31,26 @@ public class EnumWrapperTest {
 		assertArrayEquals(expected, actual);
 	}
 
+	@Test
+	public void test_EnumWrapper_valueList() {
+
+		EnumWrapper<MockEnum0123> wrapper = EnumWrapper.forEnum(MockEnum0123.class);
+
+		assertEquals(Arrays.asList(MockEnum0123.values()), wrapper.valueList());
+		assertSame(wrapper.valueList(), wrapper.valueList());
+		assertThrows(UnsupportedOperationException.class, () -> wrapper.valueList().set(0, MockEnum0123.ONE));
+	}
+
+	@Test
+	public void test_EnumWrapper_values_isCopy() {
+
+		EnumWrapper<MockEnum0123> wrapper = EnumWrapper.forEnum(MockEnum0123.class);
+
+		wrapper.values()[0] = MockEnum0123.THREE;
+
+		assertSame(MockEnum0123.ZERO, wrapper.values()[0]);
+	}
+
 	@Test
 	public void test_EnumWrapper_invalidEnum() {
 
@@ -34,7 +61,7 @@ public class EnumWrapperTest {
 		try {
 			EnumWrapper.forEnum(fradulentEnumClass);
 		} catch (IllegalArgumentException e) {
-			assertStartsWith(Messages.INVALID_ENUM, e.getMessage());
+			assertStartsWith(Messages.INVALID_ENUM.get(), e.getMessage());
 		}
 
 	}
@@ -55,7 +82,7 @@ public class EnumWrapperTest {
 		try {
 			wrapper.valueOf("1");
 		} catch (IllegalArgumentException e) {
-			assertStartsWith(Messages.INVALID_ENUM, e.getMessage());
+			assertStartsWith(Messages.INVALID_ENUM.get(), e.getMessage());
 		}
 	}
 
@@ -79,6 +106,8 @@ public class EnumWrapperTest {
 			wrapper.setSynonym("test_EnumWrapper_setSynonym_alreadyExists", MockEnum0123.TWO);
 		} catch (IllegalArgumentException e) {
 			assertStartsWith(EnumWrapper.SYNONYM_ALREADY_EXISTS, e.getMessage());
+			assertEquals(EnumWrapper.SYNONYM_ALREADY_EXISTS + "test_EnumWrapper_setSynonym_alreadyExists -> ONE",
+					e.getMessage());
 		}
 	}
 
@@ -96,4 +125,178 @@ public class EnumWrapperTest {
 		assertSame(MockEnumSpaced.TEST_ZERO, wrapper.valueOf("TestZero"));
 		assertSame(MockEnumSpaced.TEST_ZERO, wrapper.valueOf("testzero"));
 	}
+
+	@Test
+	public void test_EnumWrapper_valueOf_charSequence() {
+
+		EnumWrapper<MockEnumSpaced> wrapper = EnumWrapper.forEnum(MockEnumSpaced.class);
+
+		assertSame(MockEnumSpaced.TEST_ONE, wrapper.valueOf(new StringBuilder("test_one")));
+		assertSame(MockEnumSpaced.TEST_ONE, wrapper.valueOf(new StringBuilder("Test_One")));
+	}
+
+	@Test
+	public void test_EnumWrapper_valueOf_stringSignature() throws ReflectiveOperationException {
+
+		EnumWrapper<MockEnumSpaced> wrapper = EnumWrapper.forEnum(MockEnumSpaced.class);
+
+		// Still linked by callers compiled before `valueOf(CharSequence)`
+		Method valueOf = EnumWrapper.class.getMethod("valueOf", String.class);
+		assertSame(MockEnumSpaced.TEST_ONE, valueOf.invoke(wrapper, "test_one"));
+	}
+
+	@Test
+	public void test_EnumWrapper_valueOf_charSlice() {
+
+		EnumWrapper<MockEnumSpaced> wrapper = EnumWrapper.forEnum(MockEnumSpaced.class);
+
+		char[] message = "type=test_two;".toCharArray();
+
+		assertSame(MockEnumSpaced.TEST_TWO, wrapper.valueOf(message, 5, 8));
+	}
+
+	@Test
+	public void test_EnumWrapper_valueOf_byteSlice() {
+
+		EnumWrapper<MockEnumSpaced> wrapper = EnumWrapper.forEnum(MockEnumSpaced.class);
+
+		byte[] message = "type=TestTwo;".getBytes(StandardCharsets.US_ASCII);
+
+		assertSame(MockEnumSpaced.TEST_TWO, wrapper.valueOf(message, 5, 7));
+	}
+
+	@Test
+	public void test_EnumWrapper_valueOf_slice_illegalArg() {
+
+		EnumWrapper<MockEnumSpaced> wrapper = EnumWrapper.forEnum(MockEnumSpaced.class);
+
+		byte[] message = "type=TestTwo;".getBytes(StandardCharsets.US_ASCII);
+
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> wrapper.valueOf(message, 5, 4));
+		assertEquals(Messages.INVALID_ENUM.get() + "Test", e.getMessage());
+	}
+
+	@Test
+	public void test_EnumWrapper_valueOf_slice_exactAndMissing() {
+
+		EnumWrapper<MockEnumSpaced> wrapper = EnumWrapper.forEnum(MockEnumSpaced.class);
+
+		byte[] bytes = "type=TEST_TWO;type=test_two;".getBytes(StandardCharsets.US_ASCII);
+		assertSame(MockEnumSpaced.TEST_TWO, wrapper.valueOf(bytes, 5, 8));
+		assertSame(MockEnumSpaced.TEST_TWO, wrapper.valueOf(bytes, 19, 8));
+
+		char[] chars = "type=TEST_TWO;".toCharArray();
+		assertSame(MockEnumSpaced.TEST_TWO, wrapper.valueOf(chars, 5, 8));
+
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> wrapper.valueOf(chars, 5, 5));
+		assertEquals(Messages.INVALID_ENUM.get() + "TEST_", e.getMessage());
+	}
+
+	/**
+	 * `"Aa"` and `"BB"` have the same hash code, so they share a slot.
+	 */
+	static enum MockEnumCollision {
+		Aa, BB
+	}
+
+	@Test
+	public void test_EnumWrapper_valueOf_hashCollision() {
+
+		EnumWrapper<MockEnumCollision> wrapper = EnumWrapper.forEnum(MockEnumCollision.class);
+
+		for (MockEnumCollision value : MockEnumCollision.values()) {
+			String name = value.name();
+			assertSame(value, wrapper.valueOf(name));
+			assertSame(value, wrapper.valueOf(name.toCharArray(), 0, name.length()));
+			assertSame(value, wrapper.valueOf(name.getBytes(StandardCharsets.US_ASCII), 0, name.length()));
+		}
+		assertThrows(IllegalArgumentException.class, () -> wrapper.valueOf("C#"));
+		assertThrows(IllegalArgumentException.class, () -> wrapper.valueOf("C#".toCharArray(), 0, 2));
+		assertThrows(IllegalArgumentException.class,
+				() -> wrapper.valueOf("C#".getBytes(StandardCharsets.US_ASCII), 0, 2));
+	}
+
+	@Test
+	public void test_EnumWrapper_setSynonym_foldedDuplicate() {
+
+		EnumWrapper<MockEnumSpaced> wrapper = EnumWrapper.forEnum(MockEnumSpaced.class);
+
+		wrapper.setSynonym("test_Zero_", MockEnumSpaced.TEST_ONE);
+
+		// Only an exact match finds the synonym, as declared names win when folded
+		assertSame(MockEnumSpaced.TEST_ONE, wrapper.valueOf("test_Zero_"));
+		assertSame(MockEnumSpaced.TEST_ZERO, wrapper.valueOf("test_zero_"));
+	}
+
+	@Test
+	public void test_EnumWrapper_setSynonym_slice() {
+
+		EnumWrapper<MockEnum0123> wrapper = EnumWrapper.forEnum(MockEnum0123.class);
+
+		wrapper.setSynonym("test_EnumWrapper_setSynonym_slice", MockEnum0123.THREE);
+
+		char[] chars = "test_EnumWrapper_setSynonym_slice".toCharArray();
+		assertSame(MockEnum0123.THREE, wrapper.valueOf(chars, 0, chars.length));
+		assertSame(MockEnum0123.THREE, wrapper.valueOf("TESTENUMWRAPPERSETSYNONYMSLICE"));
+	}
+
+	@Test
+	public void test_EnumWrapper_forOrdinal() {
+
+		EnumWrapper<MockEnum0123> wrapper = EnumWrapper.forEnum(MockEnum0123.class);
+
+		assertEquals(4, wrapper.size());
+		for (MockEnum0123 value : MockEnum0123.values()) {
+			assertSame(value, wrapper.forOrdinal(value.ordinal()));
+		}
+	}
+
+	@Test
+	public void test_EnumWrapper_forOrdinal_illegalArg() {
+
+		EnumWrapper<MockEnum0123> wrapper = EnumWrapper.forEnum(MockEnum0123.class);
+
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> wrapper.forOrdinal(4));
+		assertStartsWith(Messages.INVALID_ENUM.get(), e.getMessage());
+		assertThrows(IllegalArgumentException.class, () -> wrapper.forOrdinal(-1));
+	}
+
+	@Test
+	public void test_EnumWrapper_createTable() {
+
+		EnumWrapper<MockEnum0123> wrapper = EnumWrapper.forEnum(MockEnum0123.class);
+
+		EnumTable<MockEnum0123, String> table = wrapper.createTable(value -> value.name().toLowerCase());
+
+		assertEquals(4, table.size());
+		assertEquals("zero", table.get(MockEnum0123.ZERO));
+		assertEquals("three", table.get(MockEnum0123.THREE));
+		assertEquals("two", table.get(MockEnum0123.TWO.ordinal()));
+	}
+
+	static enum MockEnumConcurrent {
+		RED, GREEN, BLUE
+	}
+
+	@Test
+	public void test_EnumWrapper_forEnum_concurrent() throws Exception {
+
+		final int threads = 32;
+		final int callsPerThread = 10_000;
+
+		List<EnumWrapper<MockEnumConcurrent>> wrappers = TestUtil.runConcurrently(threads, () -> {
+			EnumWrapper<MockEnumConcurrent> first = EnumWrapper.forEnum(MockEnumConcurrent.class);
+			for (int call = 0; call < callsPerThread; ++call) {
+				assertSame(first, EnumWrapper.forEnum(MockEnumConcurrent.class));
+			}
+			return first;
+		});
+
+		EnumWrapper<MockEnumConcurrent> expected = EnumWrapper.forEnum(MockEnumConcurrent.class);
+		for (EnumWrapper<MockEnumConcurrent> wrapper : wrappers) {
+			assertSame(expected, wrapper);
+		}
+	}
 }
@@ -0,0 +1,182 @@
+package com.desbars.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.desbars.util.LookupMetrics.BundleCounts;
+import com.desbars.util.LookupMetrics.Counts;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class LookupMetricsTest {
+
+	public static enum Fruit {
+		APPLE, BANANA
+	}
+
+	private static IBundleSource source(Map<String, String> properties) {
+		return (bundleName, locale) -> BundleTable.of(properties);
+	}
+
+	@Test
+	public void test_bundleCounts() {
+		ResourceBundleWrapper wrapper = ResourceBundleWrapper.forName("LookupMetricsTest.test_bundleCounts");
+		wrapper.setSource(source(Map.of("number", "5", "word", "abc")));
+
+		LookupMetrics.setEnabled(true);
+		try {
+			assertTrue(LookupMetrics.isEnabled());
+			IIntValue number = wrapper.getInt("number");
+			IIntValue word = wrapper.getInt("word");
+			IIntValue missing = wrapper.getInt("missing");
+
+			assertEquals(5, number.getAsInt());
+			assertEquals(5, number.get());
+			assertThrows(ResourceBundleWrapper.BundlePropertyException.class, word::getAsInt);
+			assertThrows(ResourceBundleWrapper.BundlePropertyException.class, missing::get);
+			assertEquals("abc", wrapper.getStringValue("word"));
+			assertFalse(wrapper.findStringValue("missing").isPresent());
+
+			wrapper.reset();
+			assertEquals(5, number.getAsInt());
+			wrapper.reload();
+		} finally {
+			LookupMetrics.setEnabled(false);
+		}
+
+		assertFalse(LookupMetrics.isEnabled());
+
+		BundleCounts counts = LookupMetrics.snapshotBundles().get("LookupMetricsTest.test_bundleCounts");
+		assertTrue(counts.toString().startsWith("loads=2, loadFailures=0, loadTime="), counts.toString());
+		assertEquals(2, counts.getLoads());
+		assertEquals(1, counts.getReloads());
+		assertEquals(1, counts.getResets());
+		assertEquals(0, counts.getLoadFailures());
+		assertTrue(counts.getLoadTime().toNanos() > 0);
+
+		Counts number = counts.getKeys().get("number");
+		assertEquals(3, number.getHits());
+		assertEquals(0, number.getMisses());
+
+		Counts word = counts.getKeys().get("word");
+		assertEquals(1, word.getHits());
+		assertEquals(1, word.getParseFailures());
+
+		Counts missing = counts.getKeys().get("missing");
+		assertEquals(0, missing.getHits());
+		assertEquals(2, missing.getMisses());
+	}
+
+	@Test
+	public void test_bundleCounts_loadFailure() {
+		ResourceBundleWrapper wrapper = ResourceBundleWrapper.forName("LookupMetricsTest.test_bundleCounts_loadFailure");
+
+		LookupMetrics.setEnabled(true);
+		try {
+			assertThrows(ResourceBundleWrapper.BundlePropertyException.class, () -> wrapper.getStringValue("key"));
+			assertThrows(MissingResourceException.class, wrapper::reload);
+		} finally {
+			LookupMetrics.setEnabled(false);
+		}
+
+		BundleCounts counts = LookupMetrics.snapshotBundles().get("LookupMetricsTest.test_bundleCounts_loadFailure");
+		assertEquals(1, counts.getLoads());
+		assertEquals(1, counts.getReloads());
+		assertEquals(2, counts.getLoadFailures());
+		assertEquals(1, counts.getKeys().get("key").getMisses());
+	}
+
+	@Test
+	public void test_disabled() {
+		ResourceBundleWrapper wrapper = ResourceBundleWrapper.forName("LookupMetricsTest.test_disabled");
+		wrapper.setSource(source(Map.of("word", "abc")));
+
+		assertEquals("abc", wrapper.getString("word").get());
+		EnumWrapper.forEnum(Fruit.class).valueOf("banana");
+
+		assertFalse(LookupMetrics.snapshotBundles().containsKey("LookupMetricsTest.test_disabled"));
+		assertFalse(LookupMetrics.snapshotEnums().containsKey(Fruit.class.getName()));
+	}
+
+	@Test
+	public void test_enumCounts() {
+		EnumWrapper<Thread.State> wrapper = EnumWrapper.forEnum(Thread.State.class);
+
+		LookupMetrics.setEnabled(true);
+		try {
+			wrapper.valueOf("RUNNABLE");
+			wrapper.valueOf("timedWaiting");
+			wrapper.valueOf("NEW".toCharArray(), 0, 3);
+			wrapper.valueOf("BLOCKED".getBytes(StandardCharsets.US_ASCII), 0, 7);
+			assertThrows(IllegalArgumentException.class, () -> wrapper.valueOf("sleeping"));
+		} finally {
+			LookupMetrics.setEnabled(false);
+		}
+
+		Counts counts = LookupMetrics.snapshotEnums().get(Thread.State.class.getName());
+		assertEquals(4, counts.getHits());
+		assertEquals(1, counts.getMisses());
+		assertEquals("hits=4, misses=1, parseFailures=0", counts.toString());
+
+		LookupMetrics.clear();
+		assertEquals(0, LookupMetrics.snapshotEnums().get(Thread.State.class.getName()).getHits());
+	}
+
+	@Test
+	public void test_jfrEvents() throws Exception {
+		ResourceBundleWrapper wrapper = ResourceBundleWrapper.forName("LookupMetricsTest.test_jfrEvents");
+		wrapper.setSource(source(Map.of("a", "1", "b", "2")));
+		ResourceBundleWrapper missing = ResourceBundleWrapper.forName("LookupMetricsTest.test_jfrEvents.missing");
+
+		Path file = Files.createTempFile("LookupMetricsTest", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable("com.desbars.util.BundleLoad");
+			recording.enable("com.desbars.util.EnumLookupFailed");
+			recording.start();
+
+			wrapper.getStringValue("a");
+			assertThrows(ResourceBundleWrapper.BundlePropertyException.class, () -> missing.getStringValue("a"));
+			assertThrows(IllegalArgumentException.class, () -> EnumWrapper.forEnum(Fruit.class).valueOf("cherry"));
+
+			recording.stop();
+			recording.dump(file);
+
+			List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+			List<RecordedEvent> loads = events.stream() //
+					.filter(e -> e.getEventType().getName().equals("com.desbars.util.BundleLoad")) //
+					.filter(e -> "LookupMetricsTest.test_jfrEvents".equals(e.getString("bundle"))) //
+					.collect(Collectors.toList());
+			assertEquals(1, loads.size());
+			assertTrue(loads.get(0).getBoolean("success"));
+			assertEquals(2, loads.get(0).getInt("keys"));
+
+			List<RecordedEvent> failures = events.stream() //
+					.filter(e -> e.getEventType().getName().equals("com.desbars.util.BundleLoad")) //
+					.filter(e -> "LookupMetricsTest.test_jfrEvents.missing".equals(e.getString("bundle"))) //
+					.collect(Collectors.toList());
+			assertEquals(1, failures.size());
+			assertFalse(failures.get(0).getBoolean("success"));
+			assertEquals(0, failures.get(0).getInt("keys"));
+
+			assertTrue(events.stream() //
+					.filter(e -> e.getEventType().getName().equals("com.desbars.util.EnumLookupFailed")) //
+					.anyMatch(e -> "cherry".equals(e.getString("name"))));
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+}
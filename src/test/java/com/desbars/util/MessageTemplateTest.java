@@ -0,0 +1,68 @@
+package com.desbars.util;
+
+import static com.desbars.util.TestUtil.assertStartsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.text.MessageFormat;
+
+import org.junit.jupiter.api.Test;
+
+public class MessageTemplateTest {
+
+	@Test
+	public void test_format() {
+		MessageTemplate template = MessageTemplate.compile("{1} before {0}, then {1} again");
+
+		assertEquals("b before a, then b again", template.format("a", "b"));
+		assertEquals(2, template.getArgumentCount());
+	}
+
+	@Test
+	public void test_format_matchesMessageFormat() {
+		String[] patterns = { "plain text", "{0}", "'{0}' is quoted", "it''s {0}", "'it''s' {0}''",
+				"unmatched } brace {0}", "", "{2}{0}{1}" };
+		Object[] args = { "x", 42, null };
+
+		for (String pattern : patterns) {
+			assertEquals(new MessageFormat(pattern).format(args), MessageTemplate.compile(pattern).format(args),
+					pattern);
+		}
+	}
+
+	@Test
+	public void test_format_missingArgument() {
+		MessageTemplate template = MessageTemplate.compile("{0} and {1}");
+
+		assertEquals(new MessageFormat("{0} and {1}").format(new Object[] { "a" }), template.format("a"));
+		assertEquals("a and {1}", template.appendTo(new StringBuilder(), "a").toString());
+	}
+
+	@Test
+	public void test_appendTo() throws IOException {
+		MessageTemplate template = MessageTemplate.compile("{0} -> {1}");
+
+		StringBuilder sb = new StringBuilder("prefix: ");
+		assertEquals("prefix: a -> b", template.appendTo(sb, "a", "b").toString());
+		assertEquals("a -> b", template.appendTo(new StringBuilder(), new Object[] { "a", "b" }).toString());
+		assertEquals("a -> b", template.appendTo(new StringWriter(), "a", "b").toString());
+	}
+
+	@Test
+	public void test_compile_invalid() {
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> MessageTemplate.compile("{0"));
+		assertStartsWith(MessageTemplate.UNMATCHED_BRACE.get(), e.getMessage());
+
+		e = assertThrows(IllegalArgumentException.class, () -> MessageTemplate.compile("{0,number}"));
+		assertStartsWith(MessageTemplate.INVALID_ARGUMENT.get(), e.getMessage());
+
+		e = assertThrows(IllegalArgumentException.class, () -> MessageTemplate.compile("{ 0 }"));
+		assertStartsWith(MessageTemplate.INVALID_ARGUMENT.get(), e.getMessage());
+
+		e = assertThrows(IllegalArgumentException.class, () -> MessageTemplate.compile("{}"));
+		assertStartsWith(MessageTemplate.INVALID_ARGUMENT.get(), e.getMessage());
+	}
+}
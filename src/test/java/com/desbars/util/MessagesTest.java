@@ -1,9 +1,15 @@
 package com.desbars.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 
@@ -25,10 +31,43 @@ public class MessagesTest {
 	@Test
 	public void test_get_knownKey() throws FileNotFoundException, IOException {
 
-		String expected = Messages.TYPE_CANNOT_BE_NULL;
+		String expected = Messages.TYPE_CANNOT_BE_NULL.get();
 		String actual = Messages.get("TYPE_CANNOT_BE_NULL");
 		
 		assertEquals(expected, actual);
 
 	}
+
+	@Test
+	public void test_template() {
+
+		MessageTemplate template = Messages.template("EnumWrapper.SYNONYM_CONFLICT");
+
+		assertEquals("a -> B", template.format("a", "B"));
+		assertEquals("[test_template()]", Messages.template("test_template()").format());
+
+	}
+
+	@Test
+	public void test_lazy() throws Exception {
+
+		// Load the library afresh, so that its classes are initialized here
+		URL library = Messages.class.getProtectionDomain().getCodeSource().getLocation();
+		try (URLClassLoader loader = new URLClassLoader(new URL[] { library }, ClassLoader.getPlatformClassLoader())) {
+			Class<?> resourceBundleWrapper = Class.forName(ResourceBundleWrapper.class.getName(), true, loader);
+			resourceBundleWrapper.getMethod("forName", String.class).invoke(null, "com.desbars.util.Missing");
+			Class.forName(ReflectionUtil.class.getName(), true, loader);
+			Class.forName(MessageTemplate.class.getName(), true, loader).getMethod("compile", String.class)
+					.invoke(null, "{0}");
+			Object enumWrapper = Class.forName(EnumWrapper.class.getName(), true, loader)
+					.getMethod("forEnum", Class.class).invoke(null, TimeUnit.class);
+			enumWrapper.getClass().getMethod("valueOf", CharSequence.class).invoke(enumWrapper, "SECONDS");
+
+			Method getMemoryUsageByBundle = resourceBundleWrapper.getMethod("getMemoryUsageByBundle");
+
+			Map<?, ?> loaded = (Map<?, ?>) getMemoryUsageByBundle.invoke(null);
+			assertFalse(loaded.containsKey(Messages.class.getName()), "Expect no messages loaded before they are needed");
+		}
+
+	}
 }
@@ -0,0 +1,116 @@
+package com.desbars.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+
+public class PropertiesParserTest {
+
+	private static final String TRICKY = String.join("\n", //
+			"# comment \\", //
+			"! another comment", //
+			"", //
+			"   indented = value", //
+			"plain=value", //
+			"colon:value", //
+			"space value with spaces  ", //
+			"empty=", //
+			"keyOnly", //
+			"escaped\\ key\\=x = a\\tb\\nc\\\\d", //
+			"unicode=caf\\u00e9", //
+			"utf8=caf\u00e9 \u65e5\u672c", //
+			"continued = first \\", //
+			"     second \\", //
+			"\tthird", //
+			"crlf = one \\\r\n   two\r", //
+			"doubleBackslash = end\\\\", //
+			"notContinued = yes", //
+			"plain=redefined", //
+			"trailing = \\");
+
+	private static final String EDGES = String.join("\n", //
+			"key \\", //
+			"   = continued before the separator", //
+			"crKey \\\r= continued by a lone CR", //
+			"escapes = \\r\\f\\q\\\u00e9", //
+			"long = " + "x".repeat(300), //
+			"# comment at the end");
+
+	private static Map<String, String> expected(String text) throws IOException {
+		Properties properties = new Properties();
+		properties.load(new StringReader(text));
+
+		Map<String, String> map = new HashMap<>();
+		for (String key : properties.stringPropertyNames()) {
+			map.put(key, properties.getProperty(key));
+		}
+		return map;
+	}
+
+	private static Map<String, String> parse(String text, Charset charset) {
+		return PropertiesParser.parse(ByteBuffer.wrap(text.getBytes(charset)));
+	}
+
+	@Test
+	public void test_parse_matchesProperties() throws IOException {
+		Map<String, String> actual = parse(TRICKY, StandardCharsets.UTF_8);
+
+		assertEquals(expected(TRICKY), actual);
+		assertEquals("first second third", actual.get("continued"));
+		assertEquals("caf\u00e9 \u65e5\u672c", actual.get("utf8"));
+	}
+
+	@Test
+	public void test_parse_directBuffer() throws IOException {
+		byte[] bytes = TRICKY.getBytes(StandardCharsets.UTF_8);
+		ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+		direct.put(bytes).flip();
+
+		assertEquals(expected(TRICKY), PropertiesParser.parse(direct));
+		assertEquals(0, direct.position());
+	}
+
+	@Test
+	public void test_parse_edgeCases() throws IOException {
+		Map<String, String> actual = parse(EDGES, StandardCharsets.UTF_8);
+
+		assertEquals(expected(EDGES), actual);
+		assertEquals("\r\fq\u00e9", actual.get("escapes"));
+
+		// Longer than the initial scratch space
+		byte[] bytes = EDGES.getBytes(StandardCharsets.UTF_8);
+		ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+		direct.put(bytes).flip();
+		assertEquals(expected(EDGES), PropertiesParser.parse(direct));
+	}
+
+	@Test
+	public void test_parse_endOfInput() throws IOException {
+		for (String text : new String[] { "lastKey", "key = a\\tb", "key = a\\\n   ", "key = a\\\r" }) {
+			assertEquals(expected(text), parse(text, StandardCharsets.UTF_8), text);
+		}
+		assertThrows(IllegalArgumentException.class, () -> parse("bad=\\u00", StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void test_parse_latin1Fallback() throws IOException {
+		String text = "latin1=caf\u00e9";
+
+		assertEquals(expected(text), parse(text, StandardCharsets.ISO_8859_1));
+	}
+
+	@Test
+	public void test_parse_malformedUnicodeEscape() {
+		assertThrows(IllegalArgumentException.class, () -> parse("bad=\\u00zz", StandardCharsets.UTF_8));
+	}
+}
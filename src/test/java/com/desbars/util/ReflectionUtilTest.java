@@ -2,7 +2,15 @@ package com.desbars.util;
 
 import static com.desbars.util.TestUtil.assertStartsWith;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.util.LinkedList;
 import java.util.List;
@@ -18,10 +26,32 @@ public class ReflectionUtilTest {
 
 		String returnValue;
 
+		static String label = "mock";
+
+		@SuppressWarnings("unused")
+		private String secret = "secret";
+
 		public String methodMock(String param0, String param1) {
 			callParams.add(new String[] { param0, param1 });
 			return returnValue;
 		}
+
+		public int length(String param0) {
+			return param0.length();
+		}
+
+		public void fail() throws IOException {
+			throw new IOException("fail");
+		}
+
+		public static String join(String param0, String param1, String param2) {
+			return param0 + param1 + param2;
+		}
+
+		@SuppressWarnings("unused")
+		private String whisper() {
+			return secret;
+		}
 	}
 	
 	@Test
@@ -76,5 +106,194 @@ public class ReflectionUtilTest {
 		assertStartsWith("bad format: NoSuchFieldException", summary.substring(bad_format));
 	}
 
-	
+	@Test
+	public void test_getFieldSummary_nullField() throws Exception {
+
+		Mock mock = new Mock();
+		mock.returnValue = "test_getFieldSummary_nullField";
+
+		String summary = ReflectionUtil.getFieldSummary(mock, "returnValue", null);
+
+		assertStartsWith("null: NullPointerException", summary.substring(summary.indexOf("null:")));
+		assertSame(ReflectionUtil.summaryTemplate(Mock.class, "returnValue", null),
+				ReflectionUtil.summaryTemplate(Mock.class, "returnValue", null));
+	}
+
+	@Test
+	public void test_getFieldSummary_static() throws Exception {
+
+		Mock mock = new Mock();
+
+		String summary = ReflectionUtil.getFieldSummary(mock, "label");
+
+		assertStartsWith("label: mock", summary.substring(summary.indexOf("label")));
+		assertEquals(summary, ReflectionUtil.summaryTemplate(Mock.class, "label").summarize(mock));
+	}
+
+	@Test
+	public void test_invoker() throws Exception {
+
+		Mock mock = new Mock();
+		mock.returnValue = "test_invoker";
+
+		Method method = Mock.class.getMethod("methodMock", String.class, String.class);
+		MethodInvoker<String> invoker = ReflectionUtil.invoker(method, String.class);
+
+		assertEquals("test_invoker", invoker.invoke(mock, "Hello", "World"));
+		assertEquals("test_invoker", invoker.invokeWithArguments(mock, "Hello", "World"));
+		assertEquals(2, mock.callParams.size());
+		assertSame(invoker, ReflectionUtil.invoker(method, String.class));
+		assertEquals(method, invoker.getMethod());
+	}
+
+	@Test
+	public void test_invoker_primitive() throws Exception {
+
+		Method method = Mock.class.getMethod("length", String.class);
+		MethodInvoker<Integer> invoker = ReflectionUtil.invoker(method, int.class);
+
+		assertEquals(5, invoker.invoke(new Mock(), "Hello"));
+	}
+
+	@Test
+	public void test_invoker_static() throws Exception {
+
+		Method method = Mock.class.getMethod("join", String.class, String.class, String.class);
+		MethodInvoker<CharSequence> invoker = ReflectionUtil.invoker(method, CharSequence.class);
+
+		assertEquals("abc", invoker.invokeWithArguments(null, "a", "b", "c"));
+	}
+
+	@Test
+	@SuppressWarnings("deprecation")
+	public void test_invoker_private() throws Exception {
+
+		Mock mock = new Mock();
+		Method method = Mock.class.getDeclaredMethod("whisper");
+		MethodInvoker<String> invoker = ReflectionUtil.invoker(method, String.class);
+
+		assertEquals("secret", invoker.invoke(mock));
+		// Not `canAccess`, which this nestmate of `Mock` passes anyway
+		assertFalse(method.isAccessible(), "Expect the caller's method to be left unchanged");
+	}
+
+	@Test
+	public void test_invoker_wrongReturnType() throws Exception {
+
+		Method method = Mock.class.getMethod("length", String.class);
+
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> ReflectionUtil.invoker(method, String.class));
+		assertStartsWith(ReflectionUtil.WRONG_RETURN_TYPE.get(), e.getMessage());
+	}
+
+	@Test
+	public void test_invoker_wrongArgumentCount() throws Exception {
+
+		Mock mock = new Mock();
+		Method method = Mock.class.getMethod("methodMock", String.class, String.class);
+		MethodInvoker<String> invoker = ReflectionUtil.invoker(method, String.class);
+
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> invoker.invoke(mock, "Hello"));
+		assertStartsWith(ReflectionUtil.WRONG_ARGUMENT_COUNT.get(), e.getMessage());
+		assertEquals(0, mock.callParams.size(), "Expect zero calls when the call does not happen");
+	}
+
+	@Test
+	public void test_invoker_wrongArgumentType() throws Exception {
+
+		Method method = Mock.class.getMethod("length", String.class);
+		MethodInvoker<Integer> invoker = ReflectionUtil.invoker(method, Integer.class);
+
+		assertThrows(ClassCastException.class, () -> invoker.invoke(new Mock(), 42));
+	}
+
+	@Test
+	public void test_invoker_checkedException() throws Exception {
+
+		Method method = Mock.class.getMethod("fail");
+		MethodInvoker<Void> invoker = ReflectionUtil.invoker(method, Void.class);
+
+		MethodInvoker.InvocationException e = assertThrows(MethodInvoker.InvocationException.class,
+				() -> invoker.invoke(new Mock()));
+		assertStartsWith(ReflectionUtil.INVOCATION_FAILED.get(), e.getMessage());
+		assertTrue(e.getCause() instanceof IOException);
+	}
+
+	@Test
+	public void test_handle() throws Throwable {
+
+		MethodHandle length = ReflectionUtil.handle(Mock.class.getMethod("length", String.class),
+				MethodType.methodType(int.class, Mock.class, String.class));
+		MethodHandle join = ReflectionUtil.handle(
+				Mock.class.getMethod("join", String.class, String.class, String.class),
+				MethodType.methodType(String.class, String.class, String.class, String.class));
+
+		assertEquals(5, (int) length.invokeExact(new Mock(), "Hello"));
+		assertEquals("abc", (String) join.invokeExact("a", "b", "c"));
+	}
+
+	@Test
+	@SuppressWarnings("deprecation")
+	public void test_handle_private() throws Throwable {
+
+		Method method = Mock.class.getDeclaredMethod("whisper");
+		MethodHandle whisper = ReflectionUtil.handle(method, MethodType.methodType(String.class, Mock.class));
+
+		assertEquals("secret", (String) whisper.invokeExact(new Mock()));
+		assertFalse(method.isAccessible(), "Expect the caller's method to be left unchanged");
+	}
+
+	@Test
+	public void test_handle_wrongType() throws Exception {
+
+		Method method = Mock.class.getMethod("length", String.class);
+
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> ReflectionUtil.handle(method, MethodType.methodType(int.class, Mock.class)));
+		assertStartsWith(ReflectionUtil.WRONG_METHOD_TYPE.get(), e.getMessage());
+	}
+
+	@Test
+	public void test_summaryTemplate() throws Exception {
+
+		Mock mock = new Mock();
+		mock.returnValue = "test_summaryTemplate";
+
+		FieldSummary template = ReflectionUtil.summaryTemplate(Mock.class, "returnValue", "nonExistent", "secret");
+
+		StringBuilder sb = new StringBuilder("prefix;");
+		template.appendTo(mock, sb);
+		String summary = sb.toString();
+
+		assertStartsWith("prefix;Mock\n", summary);
+		assertStartsWith("returnValue: " + mock.returnValue, summary.substring(summary.indexOf("returnValue")));
+		assertStartsWith("nonExistent: NoSuchFieldException", summary.substring(summary.indexOf("nonExistent")));
+		assertStartsWith("secret: IllegalAccessException", summary.substring(summary.indexOf("secret")));
+
+		assertSame(template, ReflectionUtil.summaryTemplate(Mock.class, "returnValue", "nonExistent", "secret"));
+		assertEquals(ReflectionUtil.getFieldSummary(mock, "returnValue", "nonExistent", "secret"),
+				template.summarize(mock));
+	}
+
+	@Test
+	public void test_summaryTemplate_appendable() throws Exception {
+
+		Mock mock = new Mock();
+		mock.returnValue = "test_summaryTemplate_appendable";
+
+		FieldSummary template = ReflectionUtil.summaryTemplate(Mock.class, "returnValue");
+
+		StringWriter writer = template.appendTo(mock, new StringWriter());
+
+		assertEquals(template.summarize(mock), writer.toString());
+	}
+
+	@Test
+	public void test_summaryTemplate_wrongType() throws Exception {
+
+		FieldSummary template = ReflectionUtil.summaryTemplate(Mock.class, "returnValue");
+
+		assertThrows(ClassCastException.class, () -> template.summarize("not a mock"));
+	}
 }
@@ -1,16 +1,35 @@
 package com.desbars.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.net.URL;
 import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
+import java.util.ResourceBundle;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -101,10 +120,80 @@ public class ResourceBundleWrapperTest {
 		try {
 			mockValue.get();
 		} catch (ResourceBundleWrapper.BundlePropertyException e) {
-			assertTrue(e.getMessage().contains(ResourceBundleWrapper.BECAUSE_NUMBER_FORMAT));
+			assertTrue(e.getMessage().contains(ResourceBundleWrapper.BECAUSE_NUMBER_FORMAT.get()));
 		}
 	}
 
+	@Test
+	public void test_getInteger_failureCached() throws FileNotFoundException, IOException {
+		FileWriter writer = new FileWriter(propertiesFile);
+
+		Properties mockProps = new Properties();
+
+		mockProps.put("unparseable", "two-fifty-six");
+		mockProps.store(writer, "test_getInteger_failureCached");
+		writer.close();
+
+		IIntValue mockValue = bundleWrapper.getInt("unparseable");
+
+		ResourceBundleWrapper.BundlePropertyException first = assertThrows(
+				ResourceBundleWrapper.BundlePropertyException.class, mockValue::getAsInt);
+		ResourceBundleWrapper.BundlePropertyException second = assertThrows(
+				ResourceBundleWrapper.BundlePropertyException.class, mockValue::get);
+		// Resolved once: each read throws a copy with its own stack trace
+		assertNotSame(first, second);
+		assertSame(first.getCause(), second.getCause());
+		assertEquals(first.getMessage(), second.getMessage());
+		assertEquals("unparseable", first.getKey());
+
+		mockProps.put("unparseable", "256");
+		writer = new FileWriter(propertiesFile);
+		mockProps.store(writer, "test_getInteger_failureCached fixed value");
+		writer.close();
+
+		// The failure is kept until the bundle is reset
+		assertSame(first.getCause(),
+				assertThrows(ResourceBundleWrapper.BundlePropertyException.class, mockValue::get).getCause());
+		bundleWrapper.reset();
+		assertEquals(256, mockValue.getAsInt());
+	}
+
+	@Test
+	public void test_getString_bundleNotLoaded_failureCached() {
+		IValue<String> mockValue = bundleWrapper.getString("mockValue");
+
+		ResourceBundleWrapper.BundlePropertyException first = assertThrows(
+				ResourceBundleWrapper.BundlePropertyException.class, mockValue::get);
+		assertTrue(first.getMessage().contains(ResourceBundleWrapper.BECAUSE_BUNDLE_NOT_LOADED.get()));
+		assertSame(first.getCause(),
+				assertThrows(ResourceBundleWrapper.BundlePropertyException.class, mockValue::get).getCause());
+	}
+
+	@Test
+	public void test_setStacklessExceptions() {
+		bundleWrapper.setStacklessExceptions(true);
+		try {
+			ResourceBundleWrapper.BundlePropertyException e = assertThrows(
+					ResourceBundleWrapper.BundlePropertyException.class, () -> bundleWrapper.getStringValue("fake"));
+			assertEquals(0, e.getStackTrace().length);
+			assertTrue(e.getMessage().contains("fake"));
+
+			// A stackless failure is shared between reads, and cannot be changed
+			IValue<String> fake = bundleWrapper.getString("fake");
+			ResourceBundleWrapper.BundlePropertyException first = assertThrows(
+					ResourceBundleWrapper.BundlePropertyException.class, fake::get);
+			first.addSuppressed(new IllegalStateException());
+			assertSame(first, assertThrows(ResourceBundleWrapper.BundlePropertyException.class, fake::get));
+			assertEquals(0, first.getSuppressed().length);
+		} finally {
+			bundleWrapper.setStacklessExceptions(false);
+		}
+
+		ResourceBundleWrapper.BundlePropertyException e = assertThrows(
+				ResourceBundleWrapper.BundlePropertyException.class, () -> bundleWrapper.getStringValue("fake"));
+		assertTrue(e.getStackTrace().length > 0);
+	}
+
 	@Test
 	public void test_getInteger_singleton() throws FileNotFoundException, IOException {
 		FileWriter writer = new FileWriter(propertiesFile);
@@ -119,6 +208,8 @@ public class ResourceBundleWrapperTest {
 		IValue<Integer> mockValue2 = bundleWrapper.getInteger("mockValue");
 
 		assertSame(mockValue1, mockValue2);
+		// The same getter, typed to read without boxing
+		assertSame(mockValue1, bundleWrapper.getInt("mockValue"));
 
 	}
 	
@@ -138,6 +229,303 @@ public class ResourceBundleWrapperTest {
 
 	}
 
+	@Test
+	public void test_getInteger_getAsInt() throws FileNotFoundException, IOException {
+		FileWriter writer = new FileWriter(propertiesFile);
+
+		Properties mockProps = new Properties();
+
+		mockProps.put("mockValue", "1024");
+		mockProps.store(writer, "test_getInteger_getAsInt");
+		writer.close();
+
+		IIntValue mockValue = bundleWrapper.getInt("mockValue");
+
+		assertEquals(1024, mockValue.getAsInt());
+		assertEquals(1024, mockValue.getAsInt());
+		assertEquals(1024, mockValue.get());
+	}
+
+	@Test
+	public void test_getInteger_reset() throws FileNotFoundException, IOException {
+		FileWriter writer = new FileWriter(propertiesFile);
+
+		Properties mockProps = new Properties();
+
+		mockProps.put("resetValue", "1024");
+		mockProps.store(writer, "test_getInteger_reset wrote initial value");
+		writer.close();
+
+		IIntValue resetValue = bundleWrapper.getInt("resetValue");
+		assertEquals(1024, resetValue.getAsInt());
+
+		mockProps.put("resetValue", "2048");
+		writer = new FileWriter(propertiesFile);
+		mockProps.store(writer, "test_getInteger_reset wrote reset value");
+		writer.close();
+
+		// Value is still 1024 because we haven't reset yet
+		assertEquals(1024, resetValue.getAsInt());
+
+		bundleWrapper.reset();
+
+		assertEquals(2048, resetValue.getAsInt());
+		assertEquals(2048, resetValue.get());
+	}
+
+	@Test
+	public void test_typedGetters() throws FileNotFoundException, IOException {
+		FileWriter writer = new FileWriter(propertiesFile);
+
+		Properties mockProps = new Properties();
+
+		mockProps.put("string", "hello");
+		mockProps.put("long", "12345678901");
+		mockProps.put("double", "2.5");
+		mockProps.put("boolean", "TRUE");
+		mockProps.put("duration", "250ms");
+		mockProps.put("byteSize", "64MiB");
+		mockProps.put("enum", "b");
+		mockProps.store(writer, "test_typedGetters");
+		writer.close();
+
+		assertEquals("hello", bundleWrapper.getString("string").get());
+		assertEquals(12345678901L, bundleWrapper.getLong("long").get());
+		assertEquals(2.5, bundleWrapper.getDouble("double").get());
+		assertEquals(true, bundleWrapper.getBoolean("boolean").get());
+		assertEquals(Duration.ofMillis(250), bundleWrapper.getDuration("duration").get());
+		assertEquals(64L * 1024 * 1024, bundleWrapper.getByteSize("byteSize").get());
+		assertSame(MockEnum.B, bundleWrapper.getEnum(MockEnum.class, "enum").get());
+	}
+
+	@Test
+	public void test_typedGetters_singleton() {
+		assertSame(bundleWrapper.getString("string"), bundleWrapper.getString("string"));
+		assertSame(bundleWrapper.getLong("long"), bundleWrapper.getLong("long"));
+		assertSame(bundleWrapper.getDuration("duration"), bundleWrapper.getDuration("duration"));
+		assertSame(bundleWrapper.getEnum(MockEnum.class, "enum"), bundleWrapper.getEnum(MockEnum.class, "enum"));
+	}
+
+	@Test
+	public void test_typedGetters_unparseable() throws FileNotFoundException, IOException {
+		FileWriter writer = new FileWriter(propertiesFile);
+
+		Properties mockProps = new Properties();
+
+		mockProps.put("unparseable", "maybe");
+		mockProps.put("subNanosecond", "1.0000000005s");
+		mockProps.put("negativeSize", "-5KB");
+		mockProps.store(writer, "test_typedGetters_unparseable");
+		writer.close();
+
+		assertGetFails(bundleWrapper.getLong("unparseable"), ResourceBundleWrapper.BECAUSE_NUMBER_FORMAT.get());
+		assertGetFails(bundleWrapper.getDouble("unparseable"), ResourceBundleWrapper.BECAUSE_NUMBER_FORMAT.get());
+		assertGetFails(bundleWrapper.getBoolean("unparseable"), ResourceBundleWrapper.BECAUSE_BOOLEAN_FORMAT.get());
+		assertGetFails(bundleWrapper.getDuration("unparseable"), ResourceBundleWrapper.BECAUSE_DURATION_FORMAT.get());
+		assertGetFails(bundleWrapper.getByteSize("unparseable"), ResourceBundleWrapper.BECAUSE_BYTE_SIZE_FORMAT.get());
+		assertGetFails(bundleWrapper.getDuration("subNanosecond"), ResourceBundleWrapper.BECAUSE_DURATION_FORMAT.get());
+		assertGetFails(bundleWrapper.getByteSize("negativeSize"), ResourceBundleWrapper.BECAUSE_BYTE_SIZE_FORMAT.get());
+		assertGetFails(bundleWrapper.getEnum(MockEnum.class, "unparseable"), ResourceBundleWrapper.BECAUSE_ENUM_FORMAT.get());
+	}
+
+	private static void assertGetFails(IValue<?> value, String reason) {
+		ResourceBundleWrapper.BundlePropertyException e = assertThrows(
+				ResourceBundleWrapper.BundlePropertyException.class, value::get);
+		assertTrue(e.getMessage().contains(reason));
+	}
+
+	@Test
+	public void test_reset_isolated() throws FileNotFoundException, IOException {
+		ResourceBundle cached = ResourceBundle.getBundle(Messages.class.getCanonicalName());
+
+		bundleWrapper.reset();
+
+		assertSame(cached, ResourceBundle.getBundle(Messages.class.getCanonicalName()),
+				"Expect reset to leave other cached bundles alone");
+	}
+
+	@Test
+	public void test_reload() throws FileNotFoundException, IOException {
+		FileWriter writer = new FileWriter(propertiesFile);
+
+		Properties mockProps = new Properties();
+
+		mockProps.put("reloadValue", "1024");
+		mockProps.store(writer, "test_reload wrote initial value");
+		writer.close();
+
+		IIntValue reloadValue = bundleWrapper.getInt("reloadValue");
+		assertEquals(1024, reloadValue.getAsInt());
+
+		mockProps.put("reloadValue", "2048");
+		writer = new FileWriter(propertiesFile);
+		mockProps.store(writer, "test_reload wrote reloaded value");
+		writer.close();
+
+		assertEquals(1024, reloadValue.getAsInt());
+
+		bundleWrapper.reload();
+
+		assertEquals(2048, reloadValue.getAsInt());
+	}
+
+	@Test
+	public void test_startReloading() throws Exception {
+		FileWriter writer = new FileWriter(propertiesFile);
+
+		Properties mockProps = new Properties();
+
+		mockProps.put("watchedValue", "1024");
+		mockProps.store(writer, "test_startReloading wrote initial value");
+		writer.close();
+
+		IIntValue watchedValue = bundleWrapper.getInt("watchedValue");
+		assertEquals(1024, watchedValue.getAsInt());
+
+		// Polled by the test alone, rather than on the background thread
+		bundleWrapper.startReloading(Duration.ofDays(1));
+		try {
+			assertFalse(bundleWrapper.pollForChanges());
+
+			mockProps.put("watchedValue", "20480");
+			writer = new FileWriter(propertiesFile);
+			mockProps.store(writer, "test_startReloading wrote changed value");
+			writer.close();
+			// Changed even where the file system's timestamps are coarse
+			assertTrue(propertiesFile.setLastModified(propertiesFile.lastModified() + 10_000));
+
+			assertTrue(bundleWrapper.pollForChanges());
+			assertEquals(20480, watchedValue.getAsInt());
+			assertFalse(bundleWrapper.pollForChanges());
+		} finally {
+			bundleWrapper.stopReloading();
+		}
+		assertFalse(bundleWrapper.pollForChanges());
+	}
+
+	@Test
+	public void test_setSource_propertiesFiles() throws FileNotFoundException, IOException {
+		// Stored through a stream, so that non-ASCII characters are escaped
+		FileOutputStream out = new FileOutputStream(propertiesFile);
+
+		Properties mockProps = new Properties();
+
+		// A large file, of over 100 KiB
+		for (int i = 0; i < 10_000; ++i) {
+			mockProps.put("mapped" + i, Integer.toString(i));
+		}
+		mockProps.put("mappedString", "caf\u00e9 = \"bar\"");
+		mockProps.store(out, "test_setSource_propertiesFiles");
+		out.close();
+
+		bundleWrapper.setSource(IBundleSource.propertiesFiles());
+		try {
+			assertEquals(9999, bundleWrapper.getInt("mapped9999").getAsInt());
+			assertEquals("caf\u00e9 = \"bar\"", bundleWrapper.getStringValue("mappedString"));
+		} finally {
+			bundleWrapper.setSource(IBundleSource.resourceBundles());
+		}
+	}
+
+	@Test
+	public void test_setSource_propertiesFiles_bundleNotLoaded() {
+		ResourceBundleWrapper unloadedWrapper = ResourceBundleWrapper.forName("FAKE");
+		unloadedWrapper.setSource(IBundleSource.propertiesFiles());
+		try {
+			ResourceBundleWrapper.BundlePropertyException e = assertThrows(
+					ResourceBundleWrapper.BundlePropertyException.class, () -> unloadedWrapper.getStringValue("fake"));
+			assertTrue(e.getMessage().contains(ResourceBundleWrapper.BECAUSE_BUNDLE_NOT_LOADED.get()));
+		} finally {
+			unloadedWrapper.setSource(IBundleSource.resourceBundles());
+		}
+	}
+
+	@Test
+	public void test_getMemoryUsage() throws FileNotFoundException, IOException {
+		FileWriter writer = new FileWriter(propertiesFile);
+
+		Properties mockProps = new Properties();
+
+		mockProps.put("mockValue", "hello");
+		mockProps.store(writer, "test_getMemoryUsage");
+		writer.close();
+
+		assertEquals(0, bundleWrapper.getMemoryUsage());
+		assertFalse(ResourceBundleWrapper.getMemoryUsageByBundle().containsKey(ResourceBundleWrapperTest.class.getCanonicalName()));
+
+		bundleWrapper.getStringValue("mockValue");
+		long usage = bundleWrapper.getMemoryUsage();
+		assertTrue(usage > 0);
+		assertEquals(usage, ResourceBundleWrapper.getMemoryUsageByBundle().get(ResourceBundleWrapperTest.class.getCanonicalName()));
+	}
+
+	@Test
+	public void test_forName_locale() throws FileNotFoundException, IOException {
+		Locale locale = Locale.CANADA_FRENCH;
+		String bundleName = ResourceBundleWrapperTest.class.getCanonicalName();
+
+		ResourceBundleWrapper localeWrapper = ResourceBundleWrapper.forName(bundleName, locale);
+		assertSame(localeWrapper, ResourceBundleWrapper.forClass(ResourceBundleWrapperTest.class, locale));
+		assertNotSame(bundleWrapper, localeWrapper);
+		assertEquals(locale, localeWrapper.getLocale());
+
+		File frFile = localizedPropertiesFile("fr");
+		File frCaFile = localizedPropertiesFile("fr_CA");
+		try {
+			storeProperties(propertiesFile, "base", "base", "fr", "base", "fr_CA", "base");
+			storeProperties(frFile, "fr", "fr", "fr_CA", "fr");
+			storeProperties(frCaFile, "fr_CA", "fr_CA");
+
+			for (IBundleSource source : List.of(IBundleSource.resourceBundles(), IBundleSource.propertiesFiles())) {
+				localeWrapper.setSource(source);
+
+				assertEquals("base", localeWrapper.getStringValue("base"));
+				assertEquals("fr", localeWrapper.getStringValue("fr"));
+				assertEquals("fr_CA", localeWrapper.getStringValue("fr_CA"));
+				assertEquals("base", bundleWrapper.getStringValue("fr_CA"));
+			}
+		} finally {
+			localeWrapper.setSource(IBundleSource.resourceBundles());
+			Files.deleteIfExists(frFile.toPath());
+			Files.deleteIfExists(frCaFile.toPath());
+		}
+	}
+
+	private static File localizedPropertiesFile(String suffix) {
+		return new File(propertiesFile.getParentFile(),
+				ResourceBundleWrapperTest.class.getSimpleName() + "_" + suffix + ".properties");
+	}
+
+	private static void storeProperties(File file, String... keysAndValues) throws IOException {
+		Properties props = new Properties();
+		for (int i = 0; i < keysAndValues.length; i += 2) {
+			props.put(keysAndValues[i], keysAndValues[i + 1]);
+		}
+		try (FileWriter writer = new FileWriter(file)) {
+			props.store(writer, file.getName());
+		}
+	}
+
+	@Test
+	public void test_getTemplate() throws FileNotFoundException, IOException {
+		FileWriter writer = new FileWriter(propertiesFile);
+
+		Properties mockProps = new Properties();
+
+		mockProps.put("greeting", "Hello, {0}!");
+		mockProps.put("broken", "Hello, {0");
+		mockProps.store(writer, "test_getTemplate");
+		writer.close();
+
+		IValue<MessageTemplate> greeting = bundleWrapper.getTemplate("greeting");
+		assertSame(greeting.get(), greeting.get());
+		assertEquals("Hello, World!", greeting.get().format("World"));
+
+		ResourceBundleWrapper.BundlePropertyException e = assertThrows(
+				ResourceBundleWrapper.BundlePropertyException.class, () -> bundleWrapper.getTemplate("broken").get());
+		assertTrue(e.getMessage().contains(ResourceBundleWrapper.BECAUSE_TEMPLATE_FORMAT.get()));
+	}
+
 	@Test
 	public void test_getStringValue_mockValue() throws FileNotFoundException, IOException {
 		FileWriter writer = new FileWriter(propertiesFile);
@@ -164,7 +552,7 @@ public class ResourceBundleWrapperTest {
 		try {
 			bundleWrapper.getStringValue("mockValue");
 		} catch (ResourceBundleWrapper.BundlePropertyException e) {
-			assertTrue(e.getMessage().contains(ResourceBundleWrapper.BECAUSE_KEY_NOT_FOUND));
+			assertTrue(e.getMessage().contains(ResourceBundleWrapper.BECAUSE_KEY_NOT_FOUND.get()));
 		}
 	}
 
@@ -174,7 +562,7 @@ public class ResourceBundleWrapperTest {
 		try {
 			unloadedWrapper.getStringValue("fake");
 		} catch (ResourceBundleWrapper.BundlePropertyException e) {
-			assertTrue(e.getMessage().contains(ResourceBundleWrapper.BECAUSE_BUNDLE_NOT_LOADED));
+			assertTrue(e.getMessage().contains(ResourceBundleWrapper.BECAUSE_BUNDLE_NOT_LOADED.get()));
 		}
 	}
 
@@ -198,6 +586,41 @@ public class ResourceBundleWrapperTest {
 		assertEquals("[mockValue]", mockValue);
 	}
 
+
+	@Test
+	public void test_findStringValue() throws FileNotFoundException, IOException {
+		FileWriter writer = new FileWriter(propertiesFile);
+
+		Properties mockProps = new Properties();
+
+		mockProps.put("mockValue", "hello");
+		mockProps.store(writer, "test_findStringValue");
+		writer.close();
+
+		assertEquals(Optional.of("hello"), bundleWrapper.findStringValue("mockValue"));
+		assertEquals(Optional.empty(), bundleWrapper.findStringValue("missingValue"));
+		assertEquals("hello", bundleWrapper.getStringValue("mockValue", "default"));
+		assertEquals("default", bundleWrapper.getStringValue("missingValue", "default"));
+	}
+
+	@Test
+	public void test_findStringValue_bundleNotLoaded() throws FileNotFoundException, IOException {
+		assertEquals(Optional.empty(), bundleWrapper.findStringValue("mockValue"));
+
+		FileWriter writer = new FileWriter(propertiesFile);
+
+		Properties mockProps = new Properties();
+
+		mockProps.put("mockValue", "hello");
+		mockProps.store(writer, "test_findStringValue_bundleNotLoaded");
+		writer.close();
+
+		// The missing bundle is remembered until reset
+		assertEquals("default", bundleWrapper.getStringValue("mockValue", "default"));
+		bundleWrapper.reset();
+		assertEquals("hello", bundleWrapper.getStringValue("mockValue", "default"));
+	}
+
 	
 	public static enum MockEnum {
 		A,
@@ -235,6 +658,249 @@ public class ResourceBundleWrapperTest {
 		
 	}
 	
+	@Test
+	public void test_getIntTable() throws Exception {
+
+		FileWriter writer = new FileWriter(propertiesFile);
+
+		Properties mockProps = new Properties();
+
+		mockProps.put("MockEnum.A.tableKey", "1");
+		mockProps.put("MockEnum.B.tableKey", "2");
+		mockProps.put("MockEnum.C.tableKey", "3");
+		mockProps.store(writer, "test_getIntTable");
+		writer.close();
+
+		EnumTable<MockEnum, IIntValue> table = bundleWrapper.getIntTable(MockEnum.class, "tableKey");
+
+		assertEquals(1, table.get(MockEnum.A).getAsInt());
+		assertEquals(2, table.get(MockEnum.B).getAsInt());
+		assertEquals(3, table.get(MockEnum.C).get());
+		assertSame(bundleWrapper.getInt(MockEnum.B, "tableKey"), table.get(MockEnum.B));
+	}
+
+	@Test
+	public void test_concurrentAccess() throws Exception {
+
+		FileWriter writer = new FileWriter(propertiesFile);
+
+		Properties mockProps = new Properties();
+
+		final int keys = 16;
+		for (int i = 0; i < keys; ++i) {
+			mockProps.put("concurrent" + i, Integer.toString(i));
+		}
+		mockProps.store(writer, "test_concurrentAccess");
+		writer.close();
+
+		final int threads = 32;
+		final int rounds = 1_000;
+
+		List<List<IValue<Integer>>> results = TestUtil.runConcurrently(threads, () -> {
+			List<IValue<Integer>> getters = new ArrayList<>();
+			for (int round = 0; round < rounds; ++round) {
+				ResourceBundleWrapper wrapper = ResourceBundleWrapper.forClass(ResourceBundleWrapperTest.class);
+				assertSame(bundleWrapper, wrapper);
+				for (int i = 0; i < keys; ++i) {
+					IValue<Integer> getter = wrapper.getInteger("concurrent" + i);
+					assertEquals(i, getter.get());
+					assertEquals(Integer.toString(i), wrapper.getStringValue("concurrent" + i));
+					if (round == 0) {
+						getters.add(getter);
+					}
+				}
+			}
+			return getters;
+		});
+
+		for (List<IValue<Integer>> getters : results) {
+			for (int i = 0; i < keys; ++i) {
+				assertSame(bundleWrapper.getInteger("concurrent" + i), getters.get(i));
+			}
+		}
+	}
+
+	@Test
+	public void test_forName_concurrent() throws Exception {
+
+		final int threads = 32;
+
+		List<ResourceBundleWrapper> wrappers = TestUtil.runConcurrently(threads,
+				() -> ResourceBundleWrapper.forName("test_forName_concurrent"));
+
+		ResourceBundleWrapper expected = ResourceBundleWrapper.forName("test_forName_concurrent");
+		for (ResourceBundleWrapper wrapper : wrappers) {
+			assertSame(expected, wrapper);
+		}
+	}
+
+	/**
+	 * Concurrent cold reads of a getter make a single `IBundleSource.load` call,
+	 * and parse the value once.
+	 */
+	@Test
+	public void test_coldRead_loadsSourceOnce() throws Exception {
+
+		AtomicInteger sourceLoads = new AtomicInteger();
+		ResourceBundleWrapper wrapper = ResourceBundleWrapper.forName("test_coldRead_loadsSourceOnce");
+		wrapper.setSource((bundleName, locale) -> {
+			sourceLoads.incrementAndGet();
+			try {
+				// Slow enough for every thread to arrive while the bundle loads
+				Thread.sleep(50);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return BundleTable.of(Map.of("big", "1000"));
+		});
+		IValue<Integer> big = wrapper.getInteger("big");
+
+		final int threads = 2_000;
+
+		ExecutorService executor = newThreadPerTaskExecutor();
+		try {
+			for (int round = 0; round < 2; ++round) {
+				List<Integer> values = TestUtil.runConcurrently(executor, threads, big::get);
+
+				// Parsed once too: a value above the `Integer` cache is boxed anew by
+				// each parse
+				Integer expected = values.get(0);
+				assertEquals(1000, expected);
+				for (Integer value : values) {
+					assertSame(expected, value);
+				}
+				assertEquals(round + 1, sourceLoads.get());
+
+				wrapper.reset();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void test_preload() throws Exception {
+
+		AtomicInteger loads = new AtomicInteger();
+		List<ResourceBundleWrapper> wrappers = new ArrayList<>();
+		for (int i = 0; i < 8; ++i) {
+			ResourceBundleWrapper wrapper = ResourceBundleWrapper.forName("test_preload" + i);
+			wrapper.setSource((bundleName, locale) -> {
+				loads.incrementAndGet();
+				return BundleTable.of(Map.of("number", "42", "word", "abc"));
+			});
+			wrappers.add(wrapper);
+		}
+		IIntValue number = wrappers.get(0).getInt("number");
+		IIntValue word = wrappers.get(0).getInt("word");
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			Map<String, Duration> loadTimes = ResourceBundleWrapper.preload(wrappers, executor);
+
+			assertEquals(8, loadTimes.size());
+			assertTrue(loadTimes.containsKey("test_preload0"));
+			assertEquals(8, loads.get());
+		} finally {
+			executor.shutdownNow();
+		}
+
+		// Resolved ahead of time, including the failure
+		assertEquals(42, number.getAsInt());
+		assertThrows(ResourceBundleWrapper.BundlePropertyException.class, word::getAsInt);
+		assertEquals(8, loads.get());
+	}
+
+	@Test
+	public void test_preloadAll() {
+
+		ResourceBundleWrapper wrapper = ResourceBundleWrapper.forName("test_preloadAll");
+		wrapper.setSource((bundleName, locale) -> BundleTable.of(Map.of("key", "value")));
+		ResourceBundleWrapper localeWrapper = ResourceBundleWrapper.forName("test_preloadAll", Locale.FRENCH);
+
+		Map<String, Duration> loadTimes = ResourceBundleWrapper.preloadAll();
+
+		assertTrue(loadTimes.containsKey("test_preloadAll"));
+		assertTrue(loadTimes.containsKey("test_preloadAll[fr]"));
+		assertTrue(ResourceBundleWrapper.getMemoryUsageByBundle().containsKey("test_preloadAll"));
+		assertTrue(localeWrapper.getMemoryUsage() > 0);
+	}
+
+	@Test
+	public void test_getAsync() throws Exception {
+
+		CountDownLatch loading = new CountDownLatch(1);
+		ResourceBundleWrapper wrapper = ResourceBundleWrapper.forName("test_getAsync");
+		wrapper.setSource((bundleName, locale) -> {
+			try {
+				loading.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return BundleTable.of(Map.of("number", "42"));
+		});
+
+		AtomicInteger tasks = new AtomicInteger();
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		wrapper.setAsyncExecutor(task -> {
+			tasks.incrementAndGet();
+			executor.execute(task);
+		});
+
+		try {
+			IIntValue number = wrapper.getInt("number");
+			IValue<String> missing = wrapper.getString("missing");
+
+			// Not resolved yet: the caller does not wait for the load
+			CompletableFuture<Integer> first = number.getAsync().toCompletableFuture();
+			assertFalse(first.isDone());
+			loading.countDown();
+			assertEquals(42, first.get(5, TimeUnit.SECONDS));
+			assertEquals(1, tasks.get());
+
+			// Resolved: completed at once, without a task
+			CompletionStage<Integer> second = number.getAsync();
+			assertTrue(second.toCompletableFuture().isDone());
+			assertSame(second, number.getAsync());
+			assertEquals(42, second.toCompletableFuture().join());
+			assertEquals(1, tasks.get());
+
+			// Failures too
+			CompletionException e = assertThrows(CompletionException.class,
+					() -> missing.getAsync().toCompletableFuture().join());
+			assertTrue(e.getCause() instanceof ResourceBundleWrapper.BundlePropertyException);
+			assertEquals(2, tasks.get());
+			e = assertThrows(CompletionException.class, () -> missing.getAsync().toCompletableFuture().join());
+			assertTrue(e.getCause() instanceof ResourceBundleWrapper.BundlePropertyException);
+			assertEquals(2, tasks.get());
+
+			// After a reset, the value is resolved on the given executor
+			wrapper.reset();
+			AtomicInteger otherTasks = new AtomicInteger();
+			CompletionStage<Integer> third = number.getAsync(task -> {
+				otherTasks.incrementAndGet();
+				executor.execute(task);
+			});
+			assertEquals(42, third.toCompletableFuture().get(5, TimeUnit.SECONDS));
+			assertEquals(1, otherTasks.get());
+			assertEquals(2, tasks.get());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * @return an executor that starts a virtual thread per task where the runtime
+	 *         has them, or a large pool of platform threads otherwise
+	 */
+	private static ExecutorService newThreadPerTaskExecutor() {
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (ReflectiveOperationException e) {
+			return Executors.newFixedThreadPool(256);
+		}
+	}
+
 //	@Test
 //	public void test_getInteger_resetValue() throws FileNotFoundException, IOException {
 //
@@ -2,6 +2,15 @@ package com.desbars.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 public class TestUtil {
 	
 	private TestUtil() {
@@ -11,4 +20,55 @@ public class TestUtil {
 	public static void assertStartsWith(String expectedPrefix, String actual) {
 		assertEquals(expectedPrefix, actual.substring(0, expectedPrefix.length()));
 	}
+	
+	/**
+	 * Run `task` on `threads` new threads, all started at once.
+	 * 
+	 * @return the result of each run
+	 */
+	public static <T> List<T> runConcurrently(int threads, Callable<T> task) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			return runConcurrently(executor, threads, task);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+	
+	/**
+	 * Submit `task` to `executor` `count` times, holding every run until all are
+	 * submitted, so that they start together.
+	 * 
+	 * @return the result of each run, in submission order
+	 * @throws Exception the failure of the first failed run, such as an
+	 *                   `AssertionError`
+	 */
+	public static <T> List<T> runConcurrently(ExecutorService executor, int count, Callable<T> task)
+			throws Exception {
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<T>> futures = new ArrayList<>(count);
+		try {
+			for (int i = 0; i < count; ++i) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					return task.call();
+				}));
+			}
+		} finally {
+			start.countDown();
+		}
+		
+		List<T> results = new ArrayList<>(count);
+		for (Future<T> future : futures) {
+			try {
+				results.add(future.get());
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof Error) {
+					throw (Error) e.getCause();
+				}
+				throw (Exception) e.getCause();
+			}
+		}
+		return results;
+	}
 }
@@ -0,0 +1,63 @@
+package com.desbars.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+public class UnitsTest {
+
+	@Test
+	public void test_parseDuration() {
+		assertEquals(Duration.ofNanos(15), Units.parseDuration("15ns"));
+		assertEquals(Duration.ofNanos(15_000), Units.parseDuration("15us"));
+		assertEquals(Duration.ofMillis(250), Units.parseDuration("250ms"));
+		assertEquals(Duration.ofMillis(1500), Units.parseDuration("1.5s"));
+		assertEquals(Duration.ofMinutes(3), Units.parseDuration("3m"));
+		assertEquals(Duration.ofMinutes(3), Units.parseDuration("3 min"));
+		assertEquals(Duration.ofHours(2), Units.parseDuration(" 2h "));
+		assertEquals(Duration.ofDays(7), Units.parseDuration("7d"));
+		assertEquals(Duration.ofMillis(-5), Units.parseDuration("-5ms"));
+	}
+
+	@Test
+	public void test_parseDuration_iso8601() {
+		assertEquals(Duration.ofMillis(250), Units.parseDuration("PT0.25S"));
+		assertEquals(Duration.ofHours(-1), Units.parseDuration("-PT1H"));
+	}
+
+	@Test
+	public void test_parseDuration_invalid() {
+		assertThrows(IllegalArgumentException.class, () -> Units.parseDuration("250"));
+		assertThrows(IllegalArgumentException.class, () -> Units.parseDuration("250 fortnights"));
+		assertThrows(IllegalArgumentException.class, () -> Units.parseDuration("ms"));
+		assertThrows(IllegalArgumentException.class, () -> Units.parseDuration("PT"));
+		assertThrows(IllegalArgumentException.class, () -> Units.parseDuration("99999999999999999999d"));
+		assertThrows(IllegalArgumentException.class, () -> Units.parseDuration("1.0000000005s"));
+		assertThrows(IllegalArgumentException.class, () -> Units.parseDuration("0.5ns"));
+	}
+
+	@Test
+	public void test_parseByteSize() {
+		assertEquals(1024L, Units.parseByteSize("1024"));
+		assertEquals(1024L, Units.parseByteSize("1024B"));
+		assertEquals(512_000L, Units.parseByteSize("512KB"));
+		assertEquals(512L * 1024, Units.parseByteSize("512KiB"));
+		assertEquals(64L * 1024 * 1024, Units.parseByteSize("64MiB"));
+		assertEquals(64L * 1024 * 1024, Units.parseByteSize("64 mib"));
+		assertEquals(3L * 1024 * 1024 * 1024 / 2, Units.parseByteSize("1.5GiB"));
+		assertEquals(2_000_000_000_000L, Units.parseByteSize("2TB"));
+	}
+
+	@Test
+	public void test_parseByteSize_invalid() {
+		assertThrows(IllegalArgumentException.class, () -> Units.parseByteSize("64 MiBs"));
+		assertThrows(IllegalArgumentException.class, () -> Units.parseByteSize("MiB"));
+		assertThrows(IllegalArgumentException.class, () -> Units.parseByteSize("0.5B"));
+		assertThrows(IllegalArgumentException.class, () -> Units.parseByteSize("99999PiB"));
+		assertThrows(IllegalArgumentException.class, () -> Units.parseByteSize("-5KB"));
+		assertThrows(IllegalArgumentException.class, () -> Units.parseByteSize("-1"));
+	}
+}